@@ -0,0 +1,78 @@
+package com.workday.plugin.testrunner.actions;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.swing.*;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.intellij.execution.testframework.AbstractTestProxy;
+import com.intellij.openapi.project.Project;
+
+import com.workday.plugin.testrunner.ui.UiContentDescriptor;
+
+/**
+ * The failed and errored tests of a results tab, read from its test tree and deduplicated by class and method.
+ * A parameterized variant counts as its method; a class that failed without a failed method (e.g. in
+ * {@code @BeforeAll}) counts as the whole class and then covers its methods.
+ *
+ * @author alexander.aizikivsky
+ * @since Oct-2026
+ */
+final class FailedTests {
+
+    /** One test to run again; methodName is null for a whole class. */
+    record Target(String className, @Nullable String methodName, String jmxTarget) {
+
+        String gradleTarget() {
+            return methodName == null ? className : className + "." + methodName;
+        }
+    }
+
+    private FailedTests() {
+    }
+
+    /** True if the tab's test tree has any failure; cheap enough for action updates. */
+    static boolean hasFailures(JComponent viewComp) {
+        AbstractTestProxy root = UiContentDescriptor.getRootProxy(viewComp);
+        return root != null && root.isDefect();
+    }
+
+    /** The failed tests of the tab in tree order; empty if there are none. */
+    static List<Target> collect(JComponent viewComp, Project project) {
+        AbstractTestProxy root = UiContentDescriptor.getRootProxy(viewComp);
+        if (root == null || !root.isDefect()) return List.of();
+        Map<String, Target> byKey = new LinkedHashMap<>();
+        collect(root, project, byKey);
+        byKey.values().removeIf(t -> t.methodName() != null && byKey.containsKey(t.className()));
+        return new ArrayList<>(byKey.values());
+    }
+
+    /** Adds the failed tests under the proxy; true if any was added. */
+    private static boolean collect(AbstractTestProxy proxy, Project project, Map<String, Target> byKey) {
+        boolean added = false;
+        for (AbstractTestProxy child : proxy.getChildren()) {
+            added |= collect(child, project, byKey);
+        }
+        if (added || !proxy.isDefect()) return added;
+
+        AbstractTestProxy node = RunSelectedInRemoteJAction.isVariantLeaf(proxy) ? proxy.getParent() : proxy;
+        String url = node.getLocationUrl();
+        if (url == null || !url.startsWith("java:")) return false;
+        String[] parts = url.substring("java:".length()).split("#", 2);
+        String className = parts[0];
+        if (className.isBlank()) return false;
+        if (parts.length < 2 || parts[1].isBlank()) {
+            byKey.putIfAbsent(className, new Target(className, null, className));
+        } else {
+            String methodName = parts[1];
+            byKey.computeIfAbsent(className + "#" + methodName, k -> new Target(className, methodName,
+                    className + "@" + methodName
+                            + RunSelectedInRemoteJAction.buildParamTypesSuffix(className, methodName, project)));
+        }
+        return true;
+    }
+}
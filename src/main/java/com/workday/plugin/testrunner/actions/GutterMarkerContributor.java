@@ -1,14 +1,12 @@
 package com.workday.plugin.testrunner.actions;
 
 import static com.intellij.icons.AllIcons.RunConfigurations.TestState.Run;
-import static com.workday.plugin.testrunner.common.Locations.getLocalResultFile;
 
 import org.jetbrains.annotations.NotNull;
 
 import com.intellij.execution.lineMarker.RunLineMarkerContributor;
 import com.intellij.openapi.actionSystem.AnAction;
 import com.intellij.openapi.actionSystem.AnActionEvent;
-import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
@@ -24,6 +22,7 @@ import com.workday.plugin.testrunner.execution.LocalRunStrategy;
 import com.workday.plugin.testrunner.execution.OSCommands;
 import com.workday.plugin.testrunner.execution.OrsRunStrategy;
 import com.workday.plugin.testrunner.execution.ParamBuilder;
+import com.workday.plugin.testrunner.execution.RunScheduler;
 import com.workday.plugin.testrunner.execution.RunStrategy;
 import com.workday.plugin.testrunner.execution.TestRunner;
 import com.workday.plugin.testrunner.target.TestTargetExtractor;
@@ -81,8 +80,8 @@ public class GutterMarkerContributor
 
         final String methodSignature = buildMethodSignature(classFqName, method);
         final String[] methodArgs = ParamBuilder.getMethodArgs(methodSignature);
-        AnAction runSuvJmx = createOrsAction(method.getName(), project, methodArgs);
-        AnAction runLocalJmx = createLocalJmxAction(method.getName(), project, methodArgs);
+        AnAction runSuvJmx = createOrsAction(method.getName(), project, methodArgs, false);
+        AnAction runLocalJmx = createLocalJmxAction(method.getName(), project, methodArgs, false);
 
         return new Info(Run, element -> "Run OMS Test Method", runSuvJmx, runLocalJmx);
     }
@@ -99,18 +98,26 @@ public class GutterMarkerContributor
         }
 
         final String[] classArgs = ParamBuilder.getClassArgs(fqName);
-        AnAction runSuvJmx = createOrsAction(clazz.getName(), project, classArgs);
-        AnAction runLocalJmx = createLocalJmxAction(clazz.getName(), project, classArgs);
+        AnAction runSuvJmx = createOrsAction(clazz.getName(), project, classArgs, false);
+        AnAction runLocalJmx = createLocalJmxAction(clazz.getName(), project, classArgs, false);
+        AnAction runSuvJmxParallel = createOrsAction(clazz.getName(), project, classArgs, true);
+        AnAction runLocalJmxParallel = createLocalJmxAction(clazz.getName(), project, classArgs, true);
 
-        return new Info(Run, element -> "Run OMS Test Class", runSuvJmx, runLocalJmx);
+        return new Info(Run, element -> "Run OMS Test Class",
+                runSuvJmx, runLocalJmx, runSuvJmxParallel, runLocalJmxParallel);
     }
 
+    /** With parallel set, the action first asks for the number of test threads (testConcurrent). */
     private @NotNull AnAction createOrsAction(
-            final String testName, final Project project, final String[] jmxParameters) {
+            final String testName, final Project project, final String[] serialParameters, final boolean parallel) {
 
-        return new AnAction("Run " + testName + " (SUV JMX)", null, Run) {
+        return new AnAction("Run " + testName + (parallel ? " in Parallel..." : "") + " (SUV JMX)", null, Run) {
             @Override
             public void actionPerformed(@NotNull AnActionEvent event) {
+                final String[] jmxParameters = withConcurrency(project, serialParameters, parallel);
+                if (jmxParameters == null) {
+                    return;
+                }
                 HostPromptDialog dialog = new HostPromptDialog();
                 if (!dialog.showAndGet()) {
                     return;
@@ -121,11 +128,11 @@ public class GutterMarkerContributor
                     return;
                 }
                 final String runTabName = testName + "@ors:" + host.replaceFirst("\\.workdaysuv\\.com$", "");
-                final RunStrategy runStrategy = new OrsRunStrategy(new OSCommands(host), host, getLocalResultFile());
                 final UiContentDescriptor uiDescriptor = UiContentDescriptor.createUiDescriptor(project, runTabName);
-                ApplicationManager.getApplication().executeOnPooledThread(() -> {
-                    LastTestStorage.setLastTestStorageOrs(host, runTabName, jmxParameters);
-                    TestRunner.runTest(project, host, jmxParameters, runStrategy, uiDescriptor);
+                RunScheduler.getInstance().submit(host, jmxParameters, uiDescriptor, runHost -> {
+                    LastTestStorage.setLastTestStorageOrs(runHost, runTabName, jmxParameters);
+                    final RunStrategy runStrategy = new OrsRunStrategy(new OSCommands(runHost), runHost);
+                    TestRunner.runTest(project, runHost, jmxParameters, runStrategy, uiDescriptor);
                 });
             }
         };
@@ -146,11 +153,15 @@ public class GutterMarkerContributor
     }
 
     private @NotNull AnAction createLocalJmxAction(
-            final String testName, final Project project, final String[] jmxParameters) {
+            final String testName, final Project project, final String[] serialParameters, final boolean parallel) {
 
-        return new AnAction("Run " + testName + " (Local JMX)", null, Run) {
+        return new AnAction("Run " + testName + (parallel ? " in Parallel..." : "") + " (Local JMX)", null, Run) {
             @Override
             public void actionPerformed(@NotNull AnActionEvent event) {
+                final String[] jmxParameters = withConcurrency(project, serialParameters, parallel);
+                if (jmxParameters == null) {
+                    return;
+                }
                 final Project activeProject = event.getProject() != null ? event.getProject() : project;
                 final String runTabName = testName + "@localJmx";
                 final String localResultFile = Locations.getLocalResultFile();
@@ -158,12 +169,22 @@ public class GutterMarkerContributor
                 final RunStrategy runStrategy = new LocalRunStrategy(
                         new OSCommands(Locations.LOCALHOST), localResultFile, resultFolder);
                 final UiContentDescriptor uiDescriptor = UiContentDescriptor.createUiDescriptor(activeProject, runTabName);
-                ApplicationManager.getApplication().executeOnPooledThread(() -> {
+                RunScheduler.getInstance().submit(Locations.LOCALHOST, jmxParameters, uiDescriptor, runHost -> {
                     LastTestStorage.setLastTestStorageLocalJmx(runTabName, jmxParameters);
-                    TestRunner.runTest(activeProject, Locations.LOCALHOST, jmxParameters, runStrategy, uiDescriptor);
+                    TestRunner.runTest(activeProject, runHost, jmxParameters, runStrategy, uiDescriptor);
                 });
             }
         };
     }
 
+    /** Serial args as they are, or args with the prompted thread count; null if the prompt is cancelled. */
+    private static String[] withConcurrency(final Project project, final String[] serialParameters,
+                                            final boolean parallel) {
+        if (!parallel) {
+            return serialParameters;
+        }
+        final Integer threads = ProjectViewRunGroup.promptConcurrency(project);
+        return threads == null ? null : ParamBuilder.withConcurrency(serialParameters, threads);
+    }
+
 }
\ No newline at end of file
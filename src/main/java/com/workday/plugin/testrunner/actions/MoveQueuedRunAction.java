@@ -0,0 +1,64 @@
+package com.workday.plugin.testrunner.actions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.intellij.icons.AllIcons;
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.ui.InputValidator;
+import com.intellij.openapi.ui.Messages;
+
+import com.workday.plugin.testrunner.common.HostPromptDialog;
+import com.workday.plugin.testrunner.common.LastTestStorage;
+import com.workday.plugin.testrunner.execution.RunScheduler;
+import com.workday.plugin.testrunner.ui.UiContentDescriptor;
+
+/**
+ * Toolbar action that moves a run still waiting in a host queue to another SUV host.
+ * Offers the recent hosts that are free right now; any other host can be typed in.
+ *
+ * @author alexander.aizikivsky
+ * @since Oct-2026
+ */
+public class MoveQueuedRunAction extends AnAction {
+
+    private final UiContentDescriptor.UiProcessHandler processHandler;
+
+    public MoveQueuedRunAction(UiContentDescriptor.UiProcessHandler processHandler) {
+        super("Move to Another Host", "Run this queued test on another SUV host", AllIcons.Actions.Forward);
+        this.processHandler = processHandler;
+    }
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent e) {
+        RunScheduler scheduler = RunScheduler.getInstance();
+        List<String> free = new ArrayList<>(scheduler.freeHosts(LastTestStorage.getRecentHosts()));
+        String input = Messages.showEditableChooseDialog(
+                "Free hosts are listed; another host can be entered:", "Move Queued Run", null,
+                free.toArray(new String[0]), free.isEmpty() ? "" : free.get(0), new InputValidator() {
+                    @Override public boolean checkInput(String s) { return !HostPromptDialog.normalizeHost(s).isEmpty(); }
+                    @Override public boolean canClose(String s) { return checkInput(s); }
+                });
+        if (input == null) return;
+        String host = HostPromptDialog.normalizeHost(input);
+        if (!scheduler.move(processHandler, host)) {
+            ReRunLastTestAction.showBalloon(e.getProject(), "The run has already started");
+            return;
+        }
+        LastTestStorage.addRecentHost(host);
+    }
+
+    @Override
+    public void update(@NotNull AnActionEvent e) {
+        e.getPresentation().setEnabled(RunScheduler.getInstance().isMovable(processHandler));
+    }
+
+    @Override
+    public @NotNull ActionUpdateThread getActionUpdateThread() {
+        return ActionUpdateThread.BGT;
+    }
+}
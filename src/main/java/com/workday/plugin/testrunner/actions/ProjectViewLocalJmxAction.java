@@ -12,6 +12,7 @@ import com.workday.plugin.testrunner.common.Locations;
 import com.workday.plugin.testrunner.execution.LocalRunStrategy;
 import com.workday.plugin.testrunner.execution.OSCommands;
 import com.workday.plugin.testrunner.execution.ParamBuilder;
+import com.workday.plugin.testrunner.execution.RunScheduler;
 import com.workday.plugin.testrunner.ui.UiContentDescriptor;
 
 public class ProjectViewLocalJmxAction extends AnAction {
@@ -27,7 +28,10 @@ public class ProjectViewLocalJmxAction extends AnAction {
         if (target.isPackage()) {
             String category = ProjectViewRunGroup.promptCategory(project);
             if (category == null) return;
-            jmxParams = ParamBuilder.getPackageArgs(target.packageName(), category);
+            Integer threads = ProjectViewRunGroup.promptConcurrency(project);
+            if (threads == null) return;
+            jmxParams = ParamBuilder.withConcurrency(
+                    ParamBuilder.getPackageArgs(target.packageName(), category), threads);
         } else {
             jmxParams = ParamBuilder.getClassArgs(target.classFqn());
         }
@@ -40,7 +44,8 @@ public class ProjectViewLocalJmxAction extends AnAction {
         LocalRunStrategy strategy = new LocalRunStrategy(
                 new OSCommands(Locations.LOCALHOST), Locations.getLocalResultFile(), Locations.getBasePath());
         strategy.setProcessHandler(uiDescriptor.getUiProcessHandler());
-        strategy.runJmxTest(params);
+        RunScheduler.getInstance().submit(Locations.LOCALHOST, params, uiDescriptor,
+                runHost -> strategy.runJmxTest(params));
     }
 
     @Override
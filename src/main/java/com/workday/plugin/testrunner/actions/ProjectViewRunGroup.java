@@ -6,6 +6,7 @@ import com.intellij.ide.util.PropertiesComponent;
 import com.intellij.openapi.actionSystem.AnActionEvent;
 import com.intellij.openapi.actionSystem.CommonDataKeys;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.InputValidator;
 import com.intellij.openapi.ui.Messages;
 import com.intellij.psi.JavaDirectoryService;
 import com.intellij.psi.PsiClass;
@@ -15,6 +16,7 @@ import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiJavaFile;
 import com.intellij.psi.PsiPackage;
 
+import com.workday.plugin.testrunner.common.OmsSettings;
 import com.workday.plugin.testrunner.target.TestTargetExtractor;
 
 /**
@@ -23,6 +25,7 @@ import com.workday.plugin.testrunner.target.TestTargetExtractor;
 class ProjectViewRunGroup {
 
     static final String KEY_LAST_CATEGORY = "oms.lastCategory";
+    static final int MAX_CONCURRENCY = 256;
 
     @Nullable
     static OmsTarget getTarget(AnActionEvent e) {
@@ -79,6 +82,34 @@ class ProjectViewRunGroup {
         return input.isEmpty() ? "empty" : input;
     }
 
+    /**
+     * Prompts for the number of parallel test threads inside ORS (testConcurrent), pre-filled with the last value.
+     * Returns null if the dialog is cancelled.
+     */
+    @Nullable
+    static Integer promptConcurrency(Project project) {
+        String input = Messages.showInputDialog(
+                project, "Parallel test threads in ORS (1 = serial):", "Run in Parallel", null,
+                Integer.toString(OmsSettings.getConcurrency()), new InputValidator() {
+                    @Override public boolean checkInput(String s) { return parseConcurrency(s) > 0; }
+                    @Override public boolean canClose(String s) { return checkInput(s); }
+                });
+        if (input == null) return null;
+        int threads = parseConcurrency(input);
+        OmsSettings.setConcurrency(threads);
+        return threads;
+    }
+
+    /** Thread count in 1..MAX_CONCURRENCY, or -1 if the input is not one. */
+    private static int parseConcurrency(String s) {
+        try {
+            int n = Integer.parseInt(s.trim());
+            return n >= 1 && n <= MAX_CONCURRENCY ? n : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
     record OmsTarget(String packageName, String classFqn) {
         static OmsTarget forClass(String fqn) { return new OmsTarget(null, fqn); }
         static OmsTarget forPackage(String pkg) { return new OmsTarget(pkg, null); }
@@ -0,0 +1,79 @@
+package com.workday.plugin.testrunner.actions;
+
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Computable;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiPackage;
+import com.intellij.psi.search.GlobalSearchScope;
+
+import com.workday.plugin.testrunner.common.HostSelectionDialog;
+import com.workday.plugin.testrunner.common.LastTestStorage;
+import com.workday.plugin.testrunner.common.Locations;
+import com.workday.plugin.testrunner.execution.BatchTestRunner;
+import com.workday.plugin.testrunner.target.TestTargetExtractor;
+import com.workday.plugin.testrunner.ui.UiContentDescriptor;
+
+/**
+ * Runs the OMS test classes of a package sharded over several SUV hosts at once (see {@link BatchTestRunner}).
+ */
+public class ProjectViewShardedSuvJmxAction extends AnAction {
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+        if (project == null) return;
+        ProjectViewRunGroup.OmsTarget target = ProjectViewRunGroup.getTarget(e);
+        if (target == null || !target.isPackage()) return;
+
+        List<String> recent = LastTestStorage.getRecentHosts();
+        if (recent.isEmpty()) {
+            ReRunLastTestAction.showBalloon(project, "No recent SUV hosts — run a test on SUV first");
+            return;
+        }
+        String category = ProjectViewRunGroup.promptCategory(project);
+        if (category == null) return;
+        HostSelectionDialog dialog = new HostSelectionDialog(recent);
+        if (!dialog.showAndGet()) return;
+        List<String> hosts = dialog.getSelectedHosts();
+
+        Locations.setBasePath(project.getBasePath());
+        final String tabName = target.shortName() + "@ors:" + hosts.size() + " hosts";
+        ApplicationManager.getApplication().executeOnPooledThread(() -> {
+            List<String> classes = ApplicationManager.getApplication().runReadAction(
+                (Computable<List<String>>) () -> {
+                    PsiPackage pkg = JavaPsiFacade.getInstance(project).findPackage(target.packageName());
+                    return pkg == null ? List.of() : TestTargetExtractor.findOmsTestClasses(
+                        pkg, GlobalSearchScope.projectScope(project), category);
+                });
+            if (classes.isEmpty()) {
+                ApplicationManager.getApplication().invokeLater(() -> ReRunLastTestAction.showBalloon(project,
+                    "No OMS test classes of category " + category + " in " + target.packageName()));
+                return;
+            }
+            ApplicationManager.getApplication().invokeLater(() -> {
+                UiContentDescriptor uiDescriptor = UiContentDescriptor.createUiDescriptor(project, tabName);
+                LastTestStorage.setTabTargetOrs(tabName, hosts.get(0));
+                BatchTestRunner.runSharded(hosts, classes, category, uiDescriptor);
+            });
+        });
+    }
+
+    @Override
+    public void update(@NotNull AnActionEvent e) {
+        ProjectViewRunGroup.OmsTarget target = ProjectViewRunGroup.getTarget(e);
+        e.getPresentation().setEnabledAndVisible(target != null && target.isPackage());
+    }
+
+    @Override
+    public @NotNull ActionUpdateThread getActionUpdateThread() {
+        return ActionUpdateThread.BGT;
+    }
+}
@@ -5,7 +5,6 @@ import org.jetbrains.annotations.NotNull;
 import com.intellij.openapi.actionSystem.ActionUpdateThread;
 import com.intellij.openapi.actionSystem.AnAction;
 import com.intellij.openapi.actionSystem.AnActionEvent;
-import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.project.Project;
 
 import com.workday.plugin.testrunner.common.HostPromptDialog;
@@ -14,6 +13,7 @@ import com.workday.plugin.testrunner.common.Locations;
 import com.workday.plugin.testrunner.execution.OSCommands;
 import com.workday.plugin.testrunner.execution.OrsRunStrategy;
 import com.workday.plugin.testrunner.execution.ParamBuilder;
+import com.workday.plugin.testrunner.execution.RunScheduler;
 import com.workday.plugin.testrunner.execution.TestRunner;
 import com.workday.plugin.testrunner.ui.UiContentDescriptor;
 
@@ -38,7 +38,10 @@ public class ProjectViewSuvJmxAction extends AnAction {
         if (target.isPackage()) {
             String category = ProjectViewRunGroup.promptCategory(project);
             if (category == null) return;
-            jmxParams = ParamBuilder.getPackageArgs(target.packageName(), category);
+            Integer threads = ProjectViewRunGroup.promptConcurrency(project);
+            if (threads == null) return;
+            jmxParams = ParamBuilder.withConcurrency(
+                    ParamBuilder.getPackageArgs(target.packageName(), category), threads);
         } else {
             jmxParams = ParamBuilder.getClassArgs(target.classFqn());
         }
@@ -47,10 +50,10 @@ public class ProjectViewSuvJmxAction extends AnAction {
         final String tabName = target.shortName() + "@ors:" + host.replaceFirst("\\.workdaysuv\\.com$", "");
         final String[] params = jmxParams;
         final UiContentDescriptor uiDescriptor = UiContentDescriptor.createUiDescriptor(project, tabName);
-        ApplicationManager.getApplication().executeOnPooledThread(() -> {
-            LastTestStorage.setLastTestStorageOrs(host, tabName, params);
-            TestRunner.runTest(project, host, params,
-                    new OrsRunStrategy(new OSCommands(host), host, Locations.getLocalResultFile()),
+        RunScheduler.getInstance().submit(host, params, uiDescriptor, runHost -> {
+            LastTestStorage.setLastTestStorageOrs(runHost, tabName, params);
+            TestRunner.runTest(project, runHost, params,
+                    new OrsRunStrategy(new OSCommands(runHost), runHost),
                     uiDescriptor);
         });
     }
@@ -0,0 +1,66 @@
+package com.workday.plugin.testrunner.actions;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.IconLoader;
+
+import com.workday.plugin.testrunner.common.LastTestStorage;
+import com.workday.plugin.testrunner.execution.ParamBuilder;
+
+/**
+ * Toolbar action that re-runs the tab's test like {@link ReRunLastTestAction}, after asking for the number
+ * of parallel test threads (testConcurrent). The chosen count is stored with the tab, so a plain ReRun
+ * repeats it. Local and SUV JMX runs only; RemoteJ runs through Gradle and has no thread count.
+ *
+ * @author alexander.aizikivsky
+ * @since Oct-2026
+ */
+public class ReRunInParallelAction extends AnAction {
+
+    public ReRunInParallelAction() {
+        super("ReRun in Parallel...", "Rerun this test with a chosen number of test threads",
+                IconLoader.getIcon("icons/rerun.svg", ReRunInParallelAction.class));
+    }
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+        if (project == null) {
+            return;
+        }
+        LastTestStorage.LastTestEntry entry = ReRunLastTestAction.entryForSelectedTab(project);
+        if (!isParallelizable(entry)) {
+            ReRunLastTestAction.showBalloon(project, "Cannot re-run in parallel: no Local or SUV JMX test for this tab");
+            return;
+        }
+        Integer threads = ProjectViewRunGroup.promptConcurrency(project);
+        if (threads == null) {
+            return;
+        }
+        LastTestStorage.LastTestEntry parallel =
+                entry.withJmxParameters(ParamBuilder.withConcurrency(entry.getJmxParameters(), threads));
+        LastTestStorage.setLastTestEntry(parallel);
+        ReRunLastTestAction.rerun(project, parallel);
+    }
+
+    @Override
+    public void update(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+        e.getPresentation().setEnabled(project != null
+                && isParallelizable(ReRunLastTestAction.entryForSelectedTab(project)));
+    }
+
+    @Override
+    public @NotNull ActionUpdateThread getActionUpdateThread() {
+        return ActionUpdateThread.EDT;
+    }
+
+    private static boolean isParallelizable(LastTestStorage.LastTestEntry entry) {
+        return entry != null && !entry.isRemoteJ() && entry.getJmxParameters() != null
+                && entry.getJmxParameters().length > 3;
+    }
+}
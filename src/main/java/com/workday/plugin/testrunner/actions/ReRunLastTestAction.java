@@ -2,8 +2,12 @@ package com.workday.plugin.testrunner.actions;
 
 import static com.workday.plugin.testrunner.common.Locations.getLocalResultFile;
 
+import java.util.List;
+
 import org.jetbrains.annotations.NotNull;
 
+import com.intellij.execution.process.ProcessEvent;
+import com.intellij.execution.process.ProcessListener;
 import com.intellij.execution.ui.RunContentDescriptor;
 import com.intellij.execution.ui.RunContentManager;
 import com.intellij.notification.NotificationGroupManager;
@@ -14,14 +18,16 @@ import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.IconLoader;
 
+import com.workday.plugin.testrunner.common.HostHealthMonitor;
 import com.workday.plugin.testrunner.common.LastTestStorage;
 import com.workday.plugin.testrunner.common.Locations;
-import com.workday.plugin.testrunner.common.SshProbe;
+import com.workday.plugin.testrunner.common.OmsSettings;
 import com.workday.plugin.testrunner.execution.LocalRunStrategy;
 import com.workday.plugin.testrunner.execution.OSCommands;
 import com.workday.plugin.testrunner.execution.OrsRunStrategy;
 import com.workday.plugin.testrunner.execution.ParamBuilder;
 import com.workday.plugin.testrunner.execution.RemoteJRunStrategy;
+import com.workday.plugin.testrunner.execution.RunScheduler;
 import com.workday.plugin.testrunner.execution.RunStrategy;
 import com.workday.plugin.testrunner.execution.TestRunner;
 import com.workday.plugin.testrunner.ui.UiContentDescriptor;
@@ -55,25 +61,59 @@ public class ReRunLastTestAction
             return;
         }
 
-        RunContentDescriptor descriptor = RunContentManager.getInstance(project)
-                .getSelectedContent();
-        String tabKey = descriptor != null ? descriptor.getDisplayName() : null;
-        LastTestStorage.LastTestEntry lastEntry;
-        if (tabKey != null) {
-            lastEntry = LastTestStorage.getLastEntry(tabKey);
-            if (lastEntry == null) {
-                lastEntry = LastTestStorage.getLastTestEntry();
-            }
-        }
-        else {
-            lastEntry = LastTestStorage.getLastTestEntry();
-        }
-
+        LastTestStorage.LastTestEntry lastEntry = entryForSelectedTab(project);
         if (lastEntry == null) {
             showBalloon(project, "No last test stored");
             return;
         }
+        if (OmsSettings.isFailedFirst() && rerunFailedFirst(project, lastEntry)) {
+            return;
+        }
+        rerun(project, lastEntry);
+    }
+
+    /**
+     * Runs the failed tests of the selected tab first and the full rerun when they are done, unless that
+     * run is stopped. Returns false if the tab has no failures.
+     */
+    private static boolean rerunFailedFirst(Project project, LastTestStorage.LastTestEntry lastEntry) {
+        RunContentDescriptor selected = RunContentManager.getInstance(project).getSelectedContent();
+        List<FailedTests.Target> failed = selected == null
+                ? List.of()
+                : FailedTests.collect(selected.getComponent(), project);
+        if (failed.isEmpty()) {
+            return false;
+        }
+        UiContentDescriptor failedRun = RerunFailedAction.run(project, lastEntry, failed);
+        if (failedRun == null) {
+            return true;
+        }
+        UiContentDescriptor.UiProcessHandler handler = failedRun.getUiProcessHandler();
+        handler.addProcessListener(new ProcessListener() {
+            @Override
+            public void processTerminated(@NotNull ProcessEvent event) {
+                if (!handler.isStopped() && !project.isDisposed()) {
+                    ApplicationManager.getApplication().invokeLater(() -> rerun(project, lastEntry));
+                }
+            }
+        });
+        return true;
+    }
+
+    /** The stored entry of the selected Run tab, or the last test run if the tab has none. */
+    static LastTestStorage.LastTestEntry entryForSelectedTab(Project project) {
+        RunContentDescriptor descriptor = RunContentManager.getInstance(project)
+                .getSelectedContent();
+        String tabKey = descriptor != null ? descriptor.getDisplayName() : null;
+        LastTestStorage.LastTestEntry lastEntry = tabKey != null ? LastTestStorage.getLastEntry(tabKey) : null;
+        return lastEntry != null ? lastEntry : LastTestStorage.getLastTestEntry();
+    }
 
+    /**
+     * Runs the stored entry again in a new tab of the same name, on the same target.
+     * Returns the new tab, or null if the entry cannot be re-run (the reason is shown as a balloon).
+     */
+    static UiContentDescriptor rerun(Project project, LastTestStorage.LastTestEntry lastEntry) {
         final String basePath = lastEntry.getBasePath();
         final boolean isRemoteJ = lastEntry.isRemoteJ();
         final boolean isOrs = lastEntry.isOrs();
@@ -82,49 +122,70 @@ public class ReRunLastTestAction
         String runTabName = lastEntry.getRunTabName();
         String host = lastEntry.getHost();
 
+        if (jmxParameters == null || jmxParameters.length == 0) {
+            showBalloon(project, "Cannot re-run: this tab has no single run to repeat");
+            return null;
+        }
+        if (!isRemoteJ && !isLocalJmx && !isOrs) {
+            showBalloon(project, "Cannot re-run: no stored configuration");
+            return null;
+        }
+        if (isOrs && (host == null || host.isBlank())) {
+            showBalloon(project, "Host is not specified");
+            return null;
+        }
+
         Locations.setBasePath(basePath);
         final UiContentDescriptor uiDescriptor = UiContentDescriptor.createUiDescriptor(project, runTabName);
 
-        ApplicationManager.getApplication().executeOnPooledThread(() -> {
-
-            if (jmxParameters == null || jmxParameters.length == 0) {
-                return;
-            }
-
-            // RemoteJ: run via Gradle remoteServerTest
-            if (isRemoteJ) {
+        // RemoteJ: run via Gradle remoteServerTest
+        if (isRemoteJ) {
+            ApplicationManager.getApplication().executeOnPooledThread(() -> {
                 final RemoteJRunStrategy strategy = new RemoteJRunStrategy();
                 strategy.setProcessHandler(uiDescriptor.getUiProcessHandler());
                 strategy.runGradleTest(ParamBuilder.getGradleTestArg(jmxParameters));
-                return;
-            }
+            });
+            return uiDescriptor;
+        }
 
-            // Local JMX: run via ./gradlew runTestJmx
-            if (isLocalJmx) {
+        // Local JMX: call the local OMS MBean
+        if (isLocalJmx) {
+            RunScheduler.getInstance().submit(Locations.LOCALHOST, jmxParameters, uiDescriptor, runHost -> {
                 final LocalRunStrategy runStrategy = new LocalRunStrategy(
                         new OSCommands(Locations.LOCALHOST), getLocalResultFile(), Locations.getBasePath());
                 runStrategy.setProcessHandler(uiDescriptor.getUiProcessHandler());
                 runStrategy.runJmxTest(jmxParameters);
-                return;
-            }
+            });
+            return uiDescriptor;
+        }
 
-            // ORS: run via SSH + jmxterm in ORS PID namespace
-            if (!isOrs) {
-                showBalloon(project, "Cannot re-run: no stored configuration");
-                return;
-            }
-            if (host == null || host.isBlank()) {
-                showBalloon(project, "Host is not specified");
+        // ORS: run via SSH + JMX in the ORS PID namespace, queued behind other runs on the host
+        RunScheduler.getInstance().submit(host, jmxParameters, uiDescriptor, runHost -> {
+            if (rejectDeadHost(project, runHost, uiDescriptor.getUiProcessHandler())) {
                 return;
             }
-            final SshProbe.Result probe = SshProbe.probe(host);
-            if (probe.exitCode != 0) {
-                showBalloon(project, "Cannot use host: " + host + ": " + probe.reason);
-                return;
-            }
-            final RunStrategy runStrategy = new OrsRunStrategy(new OSCommands(host), host, getLocalResultFile());
-            TestRunner.runTest(project, host, jmxParameters, runStrategy, uiDescriptor);
+            final RunStrategy runStrategy = new OrsRunStrategy(new OSCommands(runHost), runHost);
+            TestRunner.runTest(project, runHost, jmxParameters, runStrategy, uiDescriptor);
         });
+        return uiDescriptor;
+    }
+
+    /**
+     * Fails the run at once if the host monitor last saw the host down. Reads the cached status only;
+     * a host that has not been probed yet is tried anyway and the run reports ssh errors itself.
+     */
+    static boolean rejectDeadHost(Project project, String host, UiContentDescriptor.UiProcessHandler handler) {
+        HostHealthMonitor.Status status = HostHealthMonitor.getInstance().getStatus(host);
+        if (status == null || status.reachable()) {
+            return false;
+        }
+        // re-check now, so a retry right after the host comes back is not rejected
+        HostHealthMonitor.getInstance().refresh(List.of(host));
+        String message = "Cannot use host: " + host + ": " + status.reason();
+        showBalloon(project, message);
+        handler.error(message);
+        handler.finish(1);
+        return true;
     }
 
     public static void showBalloon(Project project, String message) {
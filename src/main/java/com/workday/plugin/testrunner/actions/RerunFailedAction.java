@@ -0,0 +1,89 @@
+package com.workday.plugin.testrunner.actions;
+
+import java.util.List;
+
+import javax.swing.*;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.intellij.icons.AllIcons;
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.project.Project;
+
+import com.workday.plugin.testrunner.common.LastTestStorage;
+import com.workday.plugin.testrunner.common.Locations;
+import com.workday.plugin.testrunner.execution.BatchTestRunner;
+import com.workday.plugin.testrunner.execution.RemoteJRunStrategy;
+import com.workday.plugin.testrunner.ui.UiContentDescriptor;
+
+/**
+ * Toolbar action that runs every failed test of the tab again as one run, on the tab's target:
+ * one Gradle build with a --tests filter per test for RemoteJ, one queued run that calls the tests
+ * one after another for Local and SUV JMX.
+ *
+ * @author alexander.aizikivsky
+ * @since Oct-2026
+ */
+public class RerunFailedAction extends AnAction {
+
+    private final JComponent viewComp;
+    private final Project project;
+
+    public RerunFailedAction(JComponent viewComp, Project project) {
+        super("Rerun Failed", "Rerun the failed tests of this tab as one run", AllIcons.RunConfigurations.RerunFailedTests);
+        this.viewComp = viewComp;
+        this.project = project;
+    }
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent e) {
+        List<FailedTests.Target> failed = FailedTests.collect(viewComp, project);
+        if (failed.isEmpty()) {
+            ReRunLastTestAction.showBalloon(project, "No failed tests in this tab");
+            return;
+        }
+        run(project, ReRunLastTestAction.entryForSelectedTab(project), failed);
+    }
+
+    /**
+     * Runs the failed tests in a new "failed@" tab with the entry's strategy (RemoteJ if there is none).
+     * Returns the new tab, or null if the entry has no host to run on.
+     */
+    static UiContentDescriptor run(Project project, LastTestStorage.LastTestEntry entry, List<FailedTests.Target> failed) {
+        if (entry != null && entry.isOrs() && (entry.getHost() == null || entry.getHost().isBlank())) {
+            ReRunLastTestAction.showBalloon(project, "Host is not specified");
+            return null;
+        }
+        if (entry != null) {
+            Locations.setBasePath(entry.getBasePath());
+        }
+        String tabName = "failed@" + (entry != null ? entry.getRunTabName() : "run");
+        UiContentDescriptor uiDescriptor = UiContentDescriptor.createUiDescriptor(project, tabName);
+        UiContentDescriptor.UiProcessHandler handler = uiDescriptor.getUiProcessHandler();
+        handler.log("Rerunning " + failed.size() + " failed tests");
+
+        if (entry == null || entry.isRemoteJ()) {
+            LastTestStorage.setTabTargetRemoteJ(tabName);
+            RemoteJRunStrategy strategy = new RemoteJRunStrategy();
+            strategy.setProcessHandler(handler);
+            strategy.runGradleTests(failed.stream().map(FailedTests.Target::gradleTarget).toList());
+            return uiDescriptor;
+        }
+        LastTestStorage.setTabTarget(tabName, entry);
+        String host = entry.isLocalJmx() ? Locations.LOCALHOST : entry.getHost();
+        BatchTestRunner.runInOrder(host, failed.stream().map(FailedTests.Target::jmxTarget).toList(), uiDescriptor);
+        return uiDescriptor;
+    }
+
+    @Override
+    public void update(@NotNull AnActionEvent e) {
+        e.getPresentation().setEnabled(FailedTests.hasFailures(viewComp));
+    }
+
+    @Override
+    public @NotNull ActionUpdateThread getActionUpdateThread() {
+        return ActionUpdateThread.EDT;
+    }
+}
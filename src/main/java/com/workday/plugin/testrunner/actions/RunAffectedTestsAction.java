@@ -0,0 +1,156 @@
+package com.workday.plugin.testrunner.actions;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.vcs.FilePath;
+import com.intellij.openapi.vcs.changes.Change;
+import com.intellij.openapi.vcs.changes.ChangeListManager;
+import com.intellij.openapi.vcs.changes.ContentRevision;
+import com.intellij.openapi.vfs.VirtualFile;
+
+import com.workday.plugin.testrunner.common.HostPromptDialog;
+import com.workday.plugin.testrunner.common.LastTestStorage;
+import com.workday.plugin.testrunner.common.Locations;
+import com.workday.plugin.testrunner.common.OmsSettings;
+import com.workday.plugin.testrunner.execution.BatchTestRunner;
+import com.workday.plugin.testrunner.execution.CoverageImpactMap;
+import com.workday.plugin.testrunner.target.TestImpactIndex;
+import com.workday.plugin.testrunner.ui.UiContentDescriptor;
+
+/**
+ * Tools menu action: runs on one SUV host only the OMS test classes that use the Java files changed in VCS,
+ * as selected by {@link TestImpactIndex}, or by {@link CoverageImpactMap} when coverage collection is on.
+ * A deleted or moved-away file counts through the files that still mention its class.
+ * The selection runs as a cancellable background task that waits for indexing; the classes then wait in the
+ * host's queue like any other run and run one after another in a single tab.
+ *
+ * @author alexander.aizikivsky
+ * @since Oct-2026
+ */
+public class RunAffectedTestsAction extends AnAction {
+
+    /** The VCS changes to select tests for: changed Java files and the paths of deleted ones. */
+    private record Changes(List<VirtualFile> changed, List<FilePath> deleted) {
+        int size() {
+            return changed.size() + deleted.size();
+        }
+    }
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+        if (project == null) return;
+        Changes changes = collectChanges(project);
+        if (changes.size() == 0) {
+            ReRunLastTestAction.showBalloon(project, "No changed Java files");
+            return;
+        }
+
+        HostPromptDialog dialog = new HostPromptDialog();
+        if (!dialog.showAndGet()) return;
+        String host = dialog.getHost();
+        if (host.isBlank()) {
+            ReRunLastTestAction.showBalloon(project, "No valid host specified");
+            return;
+        }
+
+        Locations.setBasePath(project.getBasePath());
+        final String tabName = "affected@ors:" + host.replaceFirst("\\.workdaysuv\\.com$", "");
+        final UiContentDescriptor uiDescriptor = UiContentDescriptor.createUiDescriptor(project, tabName);
+        LastTestStorage.setTabTargetOrs(tabName, host);
+        final UiContentDescriptor.UiProcessHandler handler = uiDescriptor.getUiProcessHandler();
+        ProgressManager.getInstance().run(new Task.Backgroundable(project, "Finding affected OMS tests", true) {
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                handler.setCancelHandler(indicator::cancel);
+                long start = System.currentTimeMillis();
+                CoverageImpactMap impactMap = project.getBasePath() == null
+                        ? null : CoverageImpactMap.forBasePath(project.getBasePath());
+                boolean useCoverage = OmsSettings.isCollectCoverage() && impactMap != null && !impactMap.isEmpty();
+                List<String> classes = ReadAction.nonBlocking(() -> selectTests(project, changes, useCoverage ? impactMap : null))
+                        .inSmartMode(project)
+                        .wrapProgress(indicator)
+                        .expireWith(project)
+                        .executeSynchronously();
+                handler.log("Changed Java files: " + changes.size() + ", affected OMS test classes: " + classes.size()
+                    + " (selected in " + (System.currentTimeMillis() - start) + " ms"
+                    + (useCoverage ? ", coverage recorded for " + impactMap.size() + " test classes)" : ")"));
+                if (classes.isEmpty()) {
+                    handler.log("No OMS tests use the changed files");
+                    handler.finish(0);
+                    return;
+                }
+                classes.forEach(cls -> handler.log("  " + cls));
+                BatchTestRunner.runQueued(host, classes, "empty", uiDescriptor);
+            }
+
+            @Override
+            public void onCancel() {
+                if (!handler.isProcessTerminated()) {
+                    handler.log("Stopped while finding the affected tests");
+                    handler.destroyProcess();
+                }
+            }
+        });
+    }
+
+    /** Changed Java files, plus the old paths of Java files deleted, moved or renamed. */
+    private static Changes collectChanges(Project project) {
+        List<VirtualFile> changed = ChangeListManager.getInstance(project).getAffectedFiles().stream()
+                .filter(vf -> "java".equals(vf.getExtension()))
+                .toList();
+        List<FilePath> deleted = new ArrayList<>();
+        for (Change change : ChangeListManager.getInstance(project).getAllChanges()) {
+            ContentRevision before = change.getBeforeRevision();
+            ContentRevision after = change.getAfterRevision();
+            if (before != null && before.getFile().getName().endsWith(".java")
+                    && (after == null || !before.getFile().getPath().equals(after.getFile().getPath()))) {
+                deleted.add(before.getFile());
+            }
+        }
+        return new Changes(changed, deleted);
+    }
+
+    /** Read action in smart mode; impactMap is null when coverage is not used. */
+    private static List<String> selectTests(Project project, Changes changes, CoverageImpactMap impactMap) {
+        TestImpactIndex index = TestImpactIndex.getInstance(project);
+        Set<VirtualFile> files = new LinkedHashSet<>(changes.changed());
+        List<String> changedClasses = new ArrayList<>(index.declaredClasses(changes.changed()));
+        for (FilePath path : changes.deleted()) {
+            String simpleName = path.getName().substring(0, path.getName().length() - ".java".length());
+            files.addAll(index.filesMentioning(simpleName));
+            FilePath parent = path.getParentPath();
+            VirtualFile dir = parent == null ? null : parent.getVirtualFile();
+            String pkg = dir == null ? null : ProjectFileIndex.getInstance(project).getPackageNameByDirectory(dir);
+            if (pkg != null) {
+                changedClasses.add(pkg.isEmpty() ? simpleName : pkg + "." + simpleName);
+            }
+        }
+        List<String> byReferences = index.findAffectedTests(files);
+        return impactMap != null ? impactMap.select(changedClasses, byReferences) : byReferences;
+    }
+
+    @Override
+    public void update(@NotNull AnActionEvent e) {
+        e.getPresentation().setEnabled(e.getProject() != null);
+    }
+
+    @Override
+    public @NotNull ActionUpdateThread getActionUpdateThread() {
+        return ActionUpdateThread.BGT;
+    }
+}
@@ -18,7 +18,6 @@ import com.intellij.ide.util.PropertiesComponent;
 import com.intellij.openapi.actionSystem.ActionUpdateThread;
 import com.intellij.openapi.actionSystem.AnAction;
 import com.intellij.openapi.actionSystem.AnActionEvent;
-import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.ui.Messages;
 import com.intellij.psi.JavaPsiFacade;
@@ -28,12 +27,12 @@ import com.intellij.util.ui.UIUtil;
 
 import com.workday.plugin.testrunner.common.LastTestStorage;
 import com.workday.plugin.testrunner.common.Locations;
-import com.workday.plugin.testrunner.common.SshProbe;
 import com.workday.plugin.testrunner.execution.LocalRunStrategy;
 import com.workday.plugin.testrunner.execution.OSCommands;
 import com.workday.plugin.testrunner.execution.OrsRunStrategy;
 import com.workday.plugin.testrunner.execution.ParamBuilder;
 import com.workday.plugin.testrunner.execution.RemoteJRunStrategy;
+import com.workday.plugin.testrunner.execution.RunScheduler;
 import com.workday.plugin.testrunner.execution.RunStrategy;
 import com.workday.plugin.testrunner.execution.TestRunner;
 import com.workday.plugin.testrunner.ui.UiContentDescriptor;
@@ -90,8 +89,9 @@ public class RunSelectedInRemoteJAction extends AnAction {
 
         } else if (lastEntry.isLocalJmx()) {
             Locations.setBasePath(lastEntry.getBasePath());
-            final String[] jmxParams = packageJmxParams != null ? packageJmxParams : loc.toJmxArgs();
-            ApplicationManager.getApplication().executeOnPooledThread(() -> {
+            final String[] jmxParams = keepConcurrency(lastEntry,
+                    packageJmxParams != null ? packageJmxParams : loc.toJmxArgs());
+            RunScheduler.getInstance().submit(Locations.LOCALHOST, jmxParams, uiDescriptor, runHost -> {
                 LocalRunStrategy runStrategy = new LocalRunStrategy(
                         new OSCommands(Locations.LOCALHOST), Locations.getLocalResultFile(), Locations.getBasePath());
                 runStrategy.setProcessHandler(handler);
@@ -105,20 +105,26 @@ public class RunSelectedInRemoteJAction extends AnAction {
                 return;
             }
             Locations.setBasePath(lastEntry.getBasePath());
-            final String[] jmxParams = packageJmxParams != null ? packageJmxParams : loc.toJmxArgs();
-            ApplicationManager.getApplication().executeOnPooledThread(() -> {
-                SshProbe.Result probe = SshProbe.probe(host);
-                if (probe.exitCode != 0) {
-                    ReRunLastTestAction.showBalloon(project, "Cannot use host: " + host + ": " + probe.reason);
+            final String[] jmxParams = keepConcurrency(lastEntry,
+                    packageJmxParams != null ? packageJmxParams : loc.toJmxArgs());
+            RunScheduler.getInstance().submit(host, jmxParams, uiDescriptor, runHost -> {
+                if (ReRunLastTestAction.rejectDeadHost(project, runHost, handler)) {
                     return;
                 }
-                RunStrategy runStrategy = new OrsRunStrategy(
-                        new OSCommands(host), host, Locations.getLocalResultFile());
-                TestRunner.runTest(project, host, jmxParams, runStrategy, uiDescriptor);
+                RunStrategy runStrategy = new OrsRunStrategy(new OSCommands(runHost), runHost);
+                TestRunner.runTest(project, runHost, jmxParams, runStrategy, uiDescriptor);
             });
         }
     }
 
+    /** Runs the selected node with the same number of parallel test threads as the last run. */
+    private static String[] keepConcurrency(LastTestStorage.LastTestEntry lastEntry, String[] jmxParams) {
+        String[] last = lastEntry.getJmxParameters();
+        return last == null || last.length < 5
+                ? jmxParams
+                : ParamBuilder.withConcurrency(jmxParams, ParamBuilder.getConcurrency(last));
+    }
+
     /**
      * Prompts for a test category. Pre-fills with the category guessed from the single class
      * in the package (via its @Tag annotation), falling back to the last saved value.
@@ -264,7 +270,7 @@ public class RunSelectedInRemoteJAction extends AnAction {
     }
 
     /** Looks up parameter types via PSI so ORS can resolve parameterized test methods. */
-    private static String buildParamTypesSuffix(String className, String methodName, Project project) {
+    static String buildParamTypesSuffix(String className, String methodName, Project project) {
         com.intellij.psi.PsiClass psiClass = JavaPsiFacade.getInstance(project)
                 .findClass(className, GlobalSearchScope.allScope(project));
         if (psiClass == null) return "";
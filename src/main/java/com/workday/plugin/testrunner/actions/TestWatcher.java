@@ -0,0 +1,237 @@
+package com.workday.plugin.testrunner.actions;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.intellij.execution.Executor;
+import com.intellij.execution.ui.RunContentDescriptor;
+import com.intellij.execution.ui.RunContentManager;
+import com.intellij.execution.ui.RunContentWithExecutorListener;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Computable;
+import com.intellij.openapi.util.Disposer;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileContentChangeEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiPackage;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.intellij.util.messages.MessageBusConnection;
+
+import com.workday.plugin.testrunner.common.LastTestStorage;
+import com.workday.plugin.testrunner.target.TestImpactIndex;
+import com.workday.plugin.testrunner.target.TestTargetExtractor;
+import com.workday.plugin.testrunner.ui.UiContentDescriptor;
+
+/**
+ * Watch mode of an OMS results tab: re-runs the tab's stored test whenever a file it depends on is saved.
+ * <p>
+ * The watched files are the source files of the test classes of the run plus the project classes they
+ * reference directly, recomputed after every run. Saves within {@link #DEBOUNCE_MS} of each other are
+ * coalesced into one run. The rerun goes through {@link ReRunLastTestAction#rerun}, so it uses the same
+ * target and the warm SSH session, tunnel and JMX connection of the last run. A watch run still going (or
+ * still queued for its host) when the next one starts is stopped, since its result is already out of date.
+ *
+ * @author alexander.aizikivsky
+ * @since Oct-2026
+ */
+final class TestWatcher implements Disposable {
+
+    private static final long DEBOUNCE_MS = 1_500;
+
+    private static final Map<Project, Map<String, TestWatcher>> WATCHERS = new ConcurrentHashMap<>();
+
+    private final Project project;
+    private final String tabKey;
+    private volatile Set<String> watchedPaths = Set.of();
+    private ScheduledFuture<?> pending;
+    private UiContentDescriptor.UiProcessHandler running;
+
+    private TestWatcher(final Project project, final String tabKey) {
+        this.project = project;
+        this.tabKey = tabKey;
+    }
+
+    static boolean isWatching(final Project project, final String tabKey) {
+        final Map<String, TestWatcher> watchers = WATCHERS.get(project);
+        return watchers != null && watchers.containsKey(tabKey);
+    }
+
+    /** Starts or stops watching for the tab; the watcher goes away when the tab is closed, or with the project. */
+    static void setWatching(final Project project, final String tabKey, final boolean on) {
+        final Map<String, TestWatcher> watchers = WATCHERS.computeIfAbsent(project, p -> new ConcurrentHashMap<>());
+        if (!on) {
+            final TestWatcher watcher = watchers.get(tabKey);
+            if (watcher != null) {
+                Disposer.dispose(watcher);
+            }
+            return;
+        }
+        if (watchers.containsKey(tabKey)) {
+            return;
+        }
+        final TestWatcher watcher = new TestWatcher(project, tabKey);
+        watchers.put(tabKey, watcher);
+        Disposer.register(project, watcher);
+        final MessageBusConnection connection = project.getMessageBus().connect(watcher);
+        connection.subscribe(VirtualFileManager.VFS_CHANGES, new BulkFileListener() {
+            @Override
+            public void after(@NotNull List<? extends VFileEvent> events) {
+                watcher.onChange(events);
+            }
+        });
+        connection.subscribe(RunContentManager.TOPIC, new RunContentWithExecutorListener() {
+            @Override
+            public void contentSelected(@Nullable RunContentDescriptor descriptor, @NotNull Executor executor) {
+            }
+
+            @Override
+            public void contentRemoved(@Nullable RunContentDescriptor descriptor, @NotNull Executor executor) {
+                if (descriptor != null && tabKey.equals(descriptor.getDisplayName())) {
+                    watcher.stopIfTabClosed();
+                }
+            }
+        });
+        watcher.updateWatchedFiles();
+    }
+
+    /**
+     * Stops watching unless another tab of the same name is open. A watch run replaces its tab, so this
+     * looks once the EDT is done with the current event, when the replacement is already shown.
+     */
+    private void stopIfTabClosed() {
+        ApplicationManager.getApplication().invokeLater(() -> {
+            if (project.isDisposed() || WATCHERS.getOrDefault(project, Map.of()).get(tabKey) != this) {
+                return;
+            }
+            final boolean open = RunContentManager.getInstance(project).getAllDescriptors().stream()
+                .anyMatch(d -> tabKey.equals(d.getDisplayName()));
+            if (!open) {
+                Disposer.dispose(this);
+            }
+        });
+    }
+
+    private void onChange(final List<? extends VFileEvent> events) {
+        final Set<String> paths = watchedPaths;
+        for (VFileEvent event : events) {
+            if (event instanceof VFileContentChangeEvent && paths.contains(event.getPath())) {
+                schedule();
+                return;
+            }
+        }
+    }
+
+    private synchronized void schedule() {
+        if (pending != null) {
+            pending.cancel(false);
+        }
+        pending = AppExecutorUtil.getAppScheduledExecutorService().schedule(this::fire, DEBOUNCE_MS, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void fire() {
+        pending = null;
+        final LastTestStorage.LastTestEntry entry = LastTestStorage.getLastEntry(tabKey);
+        if (entry == null || project.isDisposed()) {
+            return;
+        }
+        if (running != null && !running.isProcessTerminated()) {
+            running.error("Stopped: a newer change started another watch run");
+            running.destroyProcess();
+        }
+        running = null;
+        ApplicationManager.getApplication().invokeLater(() -> {
+            if (project.isDisposed() || !isWatching(project, tabKey)) {
+                return;
+            }
+            final UiContentDescriptor descriptor = ReRunLastTestAction.rerun(project, entry);
+            synchronized (this) {
+                running = descriptor == null ? null : descriptor.getUiProcessHandler();
+            }
+        });
+        updateWatchedFiles();
+    }
+
+    /** Recomputes the watched files in the background; keeps the old set while indexing. */
+    private void updateWatchedFiles() {
+        final LastTestStorage.LastTestEntry entry = LastTestStorage.getLastEntry(tabKey);
+        if (entry == null || entry.getJmxParameters() == null) {
+            return;
+        }
+        ApplicationManager.getApplication().executeOnPooledThread(() -> {
+            if (DumbService.isDumb(project)) {
+                return;
+            }
+            final Set<String> paths = ApplicationManager.getApplication().runReadAction(
+                (Computable<Set<String>>) () -> project.isDisposed() ? Set.of() : collectPaths(entry.getJmxParameters()));
+            if (!paths.isEmpty()) {
+                watchedPaths = paths;
+            }
+        });
+    }
+
+    /** Source files of the test classes of the run and of the project classes they reference directly. */
+    private Set<String> collectPaths(final String[] jmxParameters) {
+        final GlobalSearchScope scope = GlobalSearchScope.projectScope(project);
+        final JavaPsiFacade facade = JavaPsiFacade.getInstance(project);
+        final Set<String> paths = new HashSet<>();
+        for (String className : testClasses(jmxParameters, facade, scope)) {
+            final PsiClass test = facade.findClass(className, scope);
+            final PsiFile file = test == null ? null : test.getContainingFile();
+            if (file == null || file.getVirtualFile() == null) {
+                continue;
+            }
+            paths.add(file.getVirtualFile().getPath());
+            for (VirtualFile vf : TestImpactIndex.referencedFiles(file, scope)) {
+                paths.add(vf.getPath());
+            }
+        }
+        return paths;
+    }
+
+    private static List<String> testClasses(final String[] jmxParameters, final JavaPsiFacade facade,
+                                            final GlobalSearchScope scope) {
+        if (!"empty".equals(jmxParameters[0])) {
+            return List.of(jmxParameters[0].split("@")[0]); // "com.example.MyClass@myMethod"
+        }
+        if (!"empty".equals(jmxParameters[1])) {
+            return List.of(jmxParameters[1]);
+        }
+        final PsiPackage pkg = facade.findPackage(jmxParameters[2]);
+        return pkg == null ? List.of() : TestTargetExtractor.findOmsTestClasses(pkg, scope, jmxParameters[4]);
+    }
+
+    @Override
+    public void dispose() {
+        synchronized (this) {
+            if (pending != null) {
+                pending.cancel(false);
+                pending = null;
+            }
+        }
+        final Map<String, TestWatcher> watchers = WATCHERS.get(project);
+        if (watchers != null) {
+            watchers.remove(tabKey, this);
+            if (watchers.isEmpty()) {
+                WATCHERS.remove(project, watchers);
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.workday.plugin.testrunner.actions;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.ToggleAction;
+
+import com.workday.plugin.testrunner.common.OmsSettings;
+
+/**
+ * Tools menu switch: record per-test coverage from a JaCoCo agent in the ORS JVM for affected-test runs.
+ *
+ * @author alexander.aizikivsky
+ * @since Oct-2026
+ */
+public class ToggleCollectCoverageAction extends ToggleAction {
+
+    public ToggleCollectCoverageAction() {
+        super("Collect OMS Test Coverage", "Record which classes each OMS test class uses (needs a JaCoCo agent in ORS)", null);
+    }
+
+    @Override
+    public boolean isSelected(@NotNull AnActionEvent e) {
+        return OmsSettings.isCollectCoverage();
+    }
+
+    @Override
+    public void setSelected(@NotNull AnActionEvent e, boolean state) {
+        OmsSettings.setCollectCoverage(state);
+    }
+
+    @Override
+    public @NotNull ActionUpdateThread getActionUpdateThread() {
+        return ActionUpdateThread.BGT;
+    }
+}
@@ -0,0 +1,37 @@
+package com.workday.plugin.testrunner.actions;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.ToggleAction;
+
+import com.workday.plugin.testrunner.common.OmsSettings;
+
+/**
+ * Tools menu switch: re-run the failed tests of the tab first, then the full test.
+ *
+ * @author alexander.aizikivsky
+ * @since Oct-2026
+ */
+public class ToggleFailedFirstAction extends ToggleAction {
+
+    public ToggleFailedFirstAction() {
+        super("Re-Run Failed OMS Tests First", "On re-run, run the failed tests of the tab first, then everything", null);
+    }
+
+    @Override
+    public boolean isSelected(@NotNull AnActionEvent e) {
+        return OmsSettings.isFailedFirst();
+    }
+
+    @Override
+    public void setSelected(@NotNull AnActionEvent e, boolean state) {
+        OmsSettings.setFailedFirst(state);
+    }
+
+    @Override
+    public @NotNull ActionUpdateThread getActionUpdateThread() {
+        return ActionUpdateThread.BGT;
+    }
+}
@@ -0,0 +1,37 @@
+package com.workday.plugin.testrunner.actions;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.ToggleAction;
+
+import com.workday.plugin.testrunner.common.OmsSettings;
+
+/**
+ * Tools menu switch: run RemoteJ tests through the Gradle Tooling API (default) or by starting ./gradlew.
+ *
+ * @author alexander.aizikivsky
+ * @since Oct-2026
+ */
+public class ToggleGradleToolingApiAction extends ToggleAction {
+
+    public ToggleGradleToolingApiAction() {
+        super("Run RemoteJ via Gradle Tooling API", "Reuse the Gradle daemon and show RemoteJ tests as they finish", null);
+    }
+
+    @Override
+    public boolean isSelected(@NotNull AnActionEvent e) {
+        return OmsSettings.isGradleToolingApi();
+    }
+
+    @Override
+    public void setSelected(@NotNull AnActionEvent e, boolean state) {
+        OmsSettings.setGradleToolingApi(state);
+    }
+
+    @Override
+    public @NotNull ActionUpdateThread getActionUpdateThread() {
+        return ActionUpdateThread.BGT;
+    }
+}
@@ -0,0 +1,41 @@
+package com.workday.plugin.testrunner.actions;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.ToggleAction;
+
+import com.workday.plugin.testrunner.common.OmsSettings;
+import com.workday.plugin.testrunner.execution.RemoteAgentClient;
+
+/**
+ * Tools menu switch for the resident SUV test agent (see {@link RemoteAgentClient}).
+ *
+ * @author alexander.aizikivsky
+ * @since Oct-2026
+ */
+public class ToggleRemoteAgentAction extends ToggleAction {
+
+    public ToggleRemoteAgentAction() {
+        super("Use Resident OMS Test Agent on SUV", "Keep a small JMX agent running on SUV hosts instead of starting jmxterm per run", null);
+    }
+
+    @Override
+    public boolean isSelected(@NotNull AnActionEvent e) {
+        return OmsSettings.isRemoteAgentEnabled();
+    }
+
+    @Override
+    public void setSelected(@NotNull AnActionEvent e, boolean state) {
+        OmsSettings.setRemoteAgentEnabled(state);
+        if (!state) {
+            RemoteAgentClient.closeAll();
+        }
+    }
+
+    @Override
+    public @NotNull ActionUpdateThread getActionUpdateThread() {
+        return ActionUpdateThread.BGT;
+    }
+}
@@ -0,0 +1,39 @@
+package com.workday.plugin.testrunner.actions;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.ToggleAction;
+
+import com.workday.plugin.testrunner.common.OmsSettings;
+import com.workday.plugin.testrunner.execution.OrsReadinessService;
+
+/**
+ * Tools menu switch: wait for a tenant that is still starting instead of failing the run
+ * (see {@link OrsReadinessService}).
+ *
+ * @author alexander.aizikivsky
+ * @since Oct-2026
+ */
+public class ToggleWaitForTenantAction extends ToggleAction {
+
+    public ToggleWaitForTenantAction() {
+        super("Wait for OMS Tenant to Become Ready", "Poll a starting tenant with backoff instead of failing the run", null);
+    }
+
+    @Override
+    public boolean isSelected(@NotNull AnActionEvent e) {
+        return OmsSettings.isWaitForTenant();
+    }
+
+    @Override
+    public void setSelected(@NotNull AnActionEvent e, boolean state) {
+        OmsSettings.setWaitForTenant(state);
+    }
+
+    @Override
+    public @NotNull ActionUpdateThread getActionUpdateThread() {
+        return ActionUpdateThread.BGT;
+    }
+}
@@ -0,0 +1,61 @@
+package com.workday.plugin.testrunner.actions;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.intellij.execution.ui.RunContentDescriptor;
+import com.intellij.execution.ui.RunContentManager;
+import com.intellij.icons.AllIcons;
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.ToggleAction;
+import com.intellij.openapi.project.Project;
+
+import com.workday.plugin.testrunner.common.LastTestStorage;
+
+/**
+ * Results tab toolbar switch: re-run this tab's test automatically when the test or a class it uses is saved.
+ *
+ * @author alexander.aizikivsky
+ * @since Oct-2026
+ */
+public class WatchModeAction extends ToggleAction {
+
+    public WatchModeAction() {
+        super("Watch Mode", "Re-run this test when it or a class it uses is saved", AllIcons.Actions.Refresh);
+    }
+
+    @Override
+    public boolean isSelected(@NotNull AnActionEvent e) {
+        String tabKey = tabKey(e.getProject());
+        return tabKey != null && TestWatcher.isWatching(e.getProject(), tabKey);
+    }
+
+    @Override
+    public void setSelected(@NotNull AnActionEvent e, boolean state) {
+        String tabKey = tabKey(e.getProject());
+        if (tabKey != null) {
+            TestWatcher.setWatching(e.getProject(), tabKey, state);
+        }
+    }
+
+    @Override
+    public void update(@NotNull AnActionEvent e) {
+        super.update(e);
+        e.getPresentation().setEnabled(tabKey(e.getProject()) != null);
+    }
+
+    /** Display name of the selected Run tab if a test is stored for it. */
+    private static String tabKey(Project project) {
+        if (project == null) {
+            return null;
+        }
+        RunContentDescriptor descriptor = RunContentManager.getInstance(project).getSelectedContent();
+        String tabKey = descriptor != null ? descriptor.getDisplayName() : null;
+        return LastTestStorage.getLastEntry(tabKey) != null ? tabKey : null;
+    }
+
+    @Override
+    public @NotNull ActionUpdateThread getActionUpdateThread() {
+        return ActionUpdateThread.BGT;
+    }
+}
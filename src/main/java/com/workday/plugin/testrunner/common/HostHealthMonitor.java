@@ -0,0 +1,146 @@
+package com.workday.plugin.testrunner.common;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.util.concurrency.AppExecutorUtil;
+
+/**
+ * Keeps the reachability of the recent SUV hosts up to date in the background, so reruns and the host
+ * dialog can read it without waiting for ssh.
+ * <p>
+ * Every {@link #REFRESH_SECONDS} the recent hosts from {@link LastTestStorage#getRecentHosts()} are probed in
+ * parallel on pooled threads with {@link SshProbe}, through the same ssh config (and cloudflared ProxyCommand)
+ * the runs use; a host with a live shared session answers from its ControlMaster at once. A status older
+ * than {@link #TTL_MS} counts as unknown. Listeners are told whenever a host changes between up and down.
+ *
+ * @author alexander.aizikivsky
+ * @since Oct-2026
+ */
+public final class HostHealthMonitor {
+
+    private static final long REFRESH_SECONDS = 60;
+    private static final long TTL_MS = TimeUnit.SECONDS.toMillis(REFRESH_SECONDS * 2);
+
+    private static final HostHealthMonitor INSTANCE = new HostHealthMonitor();
+
+    /**
+     * Result of the last probe of a host.
+     *
+     * @param reachable  sshd on the host answered
+     * @param reason     diagnostic when not reachable
+     * @param latencyMillis time the ssh probe took
+     * @param lastSeen   when the host last answered, 0 if never
+     * @param checkedAt  when the probe finished
+     */
+    public record Status(boolean reachable, String reason, long latencyMillis, long lastSeen, long checkedAt) {
+
+        /** Short text for the host dialog, e.g. "up 42 ms" or "down: dns failure". */
+        public String describe() {
+            return reachable ? "up " + latencyMillis + " ms" : "down: " + reason;
+        }
+    }
+
+    /** Called on a pooled thread when a host's reachability changes or it is probed for the first time. */
+    public interface Listener {
+        void statusChanged(String host, Status status);
+    }
+
+    private final Map<String, Status> statuses = new ConcurrentHashMap<>();
+    private final Set<String> probing = ConcurrentHashMap.newKeySet();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private volatile boolean started;
+
+    private HostHealthMonitor() {
+    }
+
+    public static HostHealthMonitor getInstance() {
+        return INSTANCE;
+    }
+
+    /** Starts the periodic refresh of the recent hosts; later calls do nothing. */
+    public synchronized void start() {
+        if (started) {
+            return;
+        }
+        started = true;
+        AppExecutorUtil.getAppScheduledExecutorService().scheduleWithFixedDelay(
+            () -> refresh(LastTestStorage.getRecentHosts()), 0, REFRESH_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * The cached status of the host, or null if it has not been probed within the TTL.
+     * Never blocks; a missing or stale status triggers a probe in the background.
+     */
+    public @Nullable Status getStatus(final String host) {
+        final Status status = statuses.get(host);
+        if (status == null || System.currentTimeMillis() - status.checkedAt() > TTL_MS) {
+            refresh(List.of(host));
+            return null;
+        }
+        return status;
+    }
+
+    /** Probes the hosts in parallel in the background; hosts already being probed are skipped. */
+    public void refresh(final Collection<String> hosts) {
+        for (String host : hosts) {
+            if (host != null && !host.isBlank() && probing.add(host)) {
+                ApplicationManager.getApplication().executeOnPooledThread(() -> {
+                    try {
+                        update(host, probe(host));
+                    }
+                    finally {
+                        probing.remove(host);
+                    }
+                });
+            }
+        }
+    }
+
+    public void addListener(final Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(final Listener listener) {
+        listeners.remove(listener);
+    }
+
+    private void update(final String host, final Status status) {
+        final Status previous = statuses.put(host, status);
+        if (previous == null || previous.reachable() != status.reachable()
+            || !Objects.equals(previous.reason(), status.reason())) {
+            for (Listener l : listeners) {
+                l.statusChanged(host, status);
+            }
+        }
+    }
+
+    /**
+     * Goes through ssh like every run does, so hosts behind the cloudflared ProxyCommand are reached the
+     * same way; an open shared session answers without a network round trip.
+     */
+    private Status probe(final String host) {
+        final long begin = System.currentTimeMillis();
+        final Status previous = statuses.get(host);
+        final long lastSeen = previous == null ? 0 : previous.lastSeen();
+        final SshProbe.Result result = SshProbe.probe(host);
+        final long now = System.currentTimeMillis();
+        return result.reachable
+            ? new Status(true, "", now - begin, now, now)
+            : down(result.reason, begin, lastSeen);
+    }
+
+    private static Status down(final String reason, final long begin, final long lastSeen) {
+        final long now = System.currentTimeMillis();
+        return new Status(false, reason, now - begin, lastSeen, now);
+    }
+}
@@ -15,9 +15,12 @@ import org.jetbrains.annotations.Nullable;
 import com.intellij.openapi.ui.ComboBox;
 import com.intellij.openapi.ui.DialogWrapper;
 
+import com.workday.plugin.testrunner.execution.WarmupService;
+
 /**
  * Dialog to prompt the user for a remote host.
- * Keeps history of recent hosts and validates input as EC2 instance IDs.
+ * Keeps history of recent hosts, shows their reachability from {@link HostHealthMonitor}
+ * and validates input as EC2 instance IDs.
  *
  * @author alexander.aizikivsky
  * @since Jun-2025
@@ -26,6 +29,7 @@ public class HostPromptDialog extends DialogWrapper {
 
     private final JPanel panel = new JPanel(new BorderLayout());
     private final ComboBox<String> hostCombo = new ComboBox<>();
+    private final HostHealthMonitor.Listener healthListener = (host, status) -> SwingUtilities.invokeLater(hostCombo::repaint);
 
     public HostPromptDialog() {
         super(true);
@@ -45,6 +49,23 @@ public class HostPromptDialog extends DialogWrapper {
         hostCombo.setModel(model);
         if (model.getSize() > 0) hostCombo.setSelectedIndex(0);
 
+        // live reachability next to each host, repainted as the monitor reports changes
+        hostCombo.setRenderer(new DefaultListCellRenderer() {
+            @Override
+            public Component getListCellRendererComponent(JList<?> list, Object value, int index,
+                                                          boolean isSelected, boolean cellHasFocus) {
+                super.getListCellRendererComponent(list, value, index, isSelected, cellHasFocus);
+                if (value != null && index >= 0) {
+                    HostHealthMonitor.Status status = HostHealthMonitor.getInstance().getStatus(value.toString());
+                    setText(value + "   " + (status == null ? "checking…" : status.describe()));
+                }
+                return this;
+            }
+        });
+        HostHealthMonitor monitor = HostHealthMonitor.getInstance();
+        monitor.addListener(healthListener);
+        monitor.refresh(history);
+
         panel.add(new JLabel("Host:"), BorderLayout.WEST);
         panel.add(hostCombo, BorderLayout.CENTER);
 
@@ -66,9 +87,14 @@ public class HostPromptDialog extends DialogWrapper {
     }
 
     public String getHost() {
+        return normalizeHost(getRawHost());
+    }
+
+    /** Normalizes any text containing an EC2 instance id to the SUV host name; "" if there is no id. */
+    public static String normalizeHost(String raw) {
         // keep your normalization to EC2 id + suffix
         Pattern pattern = Pattern.compile("i-[a-f0-9]{17}");
-        Matcher matcher = pattern.matcher(getRawHost());
+        Matcher matcher = pattern.matcher(raw);
         if (matcher.find()) {
             String id = matcher.group();
             return id + ".prd.workdaysuv.com";
@@ -81,12 +107,20 @@ public class HostPromptDialog extends DialogWrapper {
         return sel == null ? "" : sel.toString().trim();
     }
 
+    @Override
+    protected void dispose() {
+        HostHealthMonitor.getInstance().removeListener(healthListener);
+        super.dispose();
+    }
+
     @Override
     protected void doOKAction() {
         String normalized = getHost();
         if (!normalized.isBlank()) {
             LastTestStorage.setHost(normalized);          // preserve existing behavior
             LastTestStorage.addRecentHost(normalized);    // NEW: push into history
+            // open the SSH session and JMX tunnel while the run is being prepared
+            WarmupService.getInstance().warmRemote(normalized);
         }
         super.doOKAction();
     }
@@ -0,0 +1,55 @@
+package com.workday.plugin.testrunner.common;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.swing.*;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.intellij.openapi.ui.DialogWrapper;
+
+/**
+ * Dialog to pick several SUV hosts from the recent-host history, for sharded runs.
+ * All hosts are selected initially; OK needs at least one.
+ *
+ * @author alexander.aizikivsky
+ * @since Oct-2026
+ */
+public class HostSelectionDialog extends DialogWrapper {
+
+    private final JPanel panel = new JPanel(new BorderLayout());
+    private final List<JCheckBox> boxes = new ArrayList<>();
+
+    public HostSelectionDialog(List<String> hosts) {
+        super(true);
+        setTitle("Select SUV Hosts");
+
+        JPanel list = new JPanel(new GridLayout(0, 1));
+        for (String host : hosts) {
+            JCheckBox box = new JCheckBox(host, true);
+            box.addItemListener(e -> setOKActionEnabled(!getSelectedHosts().isEmpty()));
+            boxes.add(box);
+            list.add(box);
+        }
+        panel.add(new JLabel("Run shards on:"), BorderLayout.NORTH);
+        panel.add(list, BorderLayout.CENTER);
+
+        init();
+        setOKActionEnabled(!getSelectedHosts().isEmpty());
+    }
+
+    @Override
+    protected @Nullable JComponent createCenterPanel() {
+        return panel;
+    }
+
+    public List<String> getSelectedHosts() {
+        List<String> selected = new ArrayList<>();
+        for (JCheckBox box : boxes) {
+            if (box.isSelected()) selected.add(box.getText());
+        }
+        return selected;
+    }
+}
@@ -75,6 +75,39 @@ public class LastTestStorage {
         entriesByTabKey.put(runTabName, getLastTestEntry());
     }
 
+    /** Stores the entry as the last test and as its tab's entry, e.g. a rerun with other parameters. */
+    public static void setLastTestEntry(final LastTestEntry entry) {
+        setHost(entry.host);
+        setRunTabName(entry.runTabName);
+        setJmxParameters(entry.jmxParameters);
+        environment = entry.isRemoteJ ? Environment.REMOTEJ : entry.isOrs ? Environment.ORS : Environment.LOCAL_JMX;
+        setBasePath(entry.basePath);
+        isStored = true;
+
+        entriesByTabKey.put(entry.runTabName, entry);
+    }
+
+    /**
+     * Remembers the SUV host of a tab that has no single run to repeat (sharded, affected and failed runs),
+     * so Rerun Failed in that tab runs on it. The last test itself is unchanged.
+     */
+    public static void setTabTargetOrs(final String runTabName, final String host) {
+        entriesByTabKey.put(runTabName,
+            new LastTestEntry(host, false, true, false, runTabName, null, Locations.getBasePath()));
+    }
+
+    /** Like {@link #setTabTargetOrs}, for a tab that ran with Gradle on RemoteJ. */
+    public static void setTabTargetRemoteJ(final String runTabName) {
+        entriesByTabKey.put(runTabName,
+            new LastTestEntry(null, true, false, false, runTabName, null, Locations.getBasePath()));
+    }
+
+    /** Like {@link #setTabTargetOrs}, with the target (host and strategy) of another tab's entry. */
+    public static void setTabTarget(final String runTabName, final LastTestEntry target) {
+        entriesByTabKey.put(runTabName, new LastTestEntry(target.host, target.isRemoteJ, target.isOrs,
+            target.isLocalJmx, runTabName, null, target.basePath));
+    }
+
     public static void setBasePath(final String basePath) {
         LastTestStorage.basePath = basePath;
     }
@@ -170,6 +203,11 @@ public class LastTestStorage {
         public String getBasePath() {
             return basePath;
         }
+
+        /** The same target and tab with other JMX parameters. */
+        public LastTestEntry withJmxParameters(final String[] jmxParameters) {
+            return new LastTestEntry(host, isRemoteJ, isOrs, isLocalJmx, runTabName, jmxParameters, basePath);
+        }
     }
 
     /**
@@ -0,0 +1,73 @@
+package com.workday.plugin.testrunner.common;
+
+import com.intellij.ide.util.PropertiesComponent;
+
+/**
+ * Application-level plugin options, persisted in PropertiesComponent.
+ *
+ * @author alexander.aizikivsky
+ * @since Oct-2026
+ */
+public class OmsSettings {
+
+    private static final String KEY_REMOTE_AGENT = "oms.remoteAgent.enabled";
+    private static final String KEY_CONCURRENCY = "oms.testConcurrent";
+    private static final String KEY_WAIT_FOR_TENANT = "oms.waitForTenant";
+    private static final String KEY_GRADLE_TOOLING_API = "oms.remoteJ.toolingApi";
+    private static final String KEY_COLLECT_COVERAGE = "oms.coverage.collect";
+    private static final String KEY_FAILED_FIRST = "oms.rerun.failedFirst";
+
+    /** Use the resident test agent on SUV hosts instead of starting jmxterm for every run. */
+    public static boolean isRemoteAgentEnabled() {
+        return PropertiesComponent.getInstance().getBoolean(KEY_REMOTE_AGENT, false);
+    }
+
+    public static void setRemoteAgentEnabled(final boolean enabled) {
+        PropertiesComponent.getInstance().setValue(KEY_REMOTE_AGENT, enabled, false);
+    }
+
+    /** Wait (with backoff) for a tenant that is still starting instead of failing the run. */
+    public static boolean isWaitForTenant() {
+        return PropertiesComponent.getInstance().getBoolean(KEY_WAIT_FOR_TENANT, false);
+    }
+
+    public static void setWaitForTenant(final boolean enabled) {
+        PropertiesComponent.getInstance().setValue(KEY_WAIT_FOR_TENANT, enabled, false);
+    }
+
+    /** Run RemoteJ tests through the Gradle Tooling API (warm daemon, live tree) instead of ./gradlew. */
+    public static boolean isGradleToolingApi() {
+        return PropertiesComponent.getInstance().getBoolean(KEY_GRADLE_TOOLING_API, true);
+    }
+
+    public static void setGradleToolingApi(final boolean enabled) {
+        PropertiesComponent.getInstance().setValue(KEY_GRADLE_TOOLING_API, enabled, true);
+    }
+
+    /** Record which classes each OMS test class uses, from a JaCoCo agent in the ORS JVM, for affected-test runs. */
+    public static boolean isCollectCoverage() {
+        return PropertiesComponent.getInstance().getBoolean(KEY_COLLECT_COVERAGE, false);
+    }
+
+    public static void setCollectCoverage(final boolean enabled) {
+        PropertiesComponent.getInstance().setValue(KEY_COLLECT_COVERAGE, enabled, false);
+    }
+
+    /** Re-run starts with the failed tests of the tab as their own run, then runs everything. */
+    public static boolean isFailedFirst() {
+        return PropertiesComponent.getInstance().getBoolean(KEY_FAILED_FIRST, false);
+    }
+
+    public static void setFailedFirst(final boolean enabled) {
+        PropertiesComponent.getInstance().setValue(KEY_FAILED_FIRST, enabled, false);
+    }
+
+    /** Last parallel thread count chosen for a run; 1 means serial. */
+    public static int getConcurrency() {
+        return PropertiesComponent.getInstance().getInt(KEY_CONCURRENCY, 1);
+    }
+
+    public static void setConcurrency(final int threads) {
+        PropertiesComponent.getInstance().setValue(KEY_CONCURRENCY, threads, 1);
+    }
+}
@@ -0,0 +1,32 @@
+package com.workday.plugin.testrunner.common;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.startup.StartupActivity;
+
+import com.workday.plugin.testrunner.execution.WarmupService;
+
+/**
+ * Runs once per opened project and prepares state that every OMS run needs,
+ * so the first click does not pay for it.
+ *
+ * @author alexander.aizikivsky
+ * @since Oct-2026
+ */
+public class OmsStartupActivity implements StartupActivity.DumbAware {
+
+    @Override
+    public void runActivity(@NotNull Project project) {
+        // capture the login-shell environment in the background (ssh/scp/cloudflared PATH)
+        ShellEnvironment.getInstance().warmUp();
+        // keep the reachability of the recent SUV hosts fresh for reruns and the host dialog
+        HostHealthMonitor.getInstance().start();
+        // connect to the most recently used host ahead of the first run
+        WarmupService.getInstance().warmLastTarget();
+        // read the test history so duration estimates are ready without touching the disk
+        if (project.getBasePath() != null) {
+            TestHistoryStore.forBasePath(project.getBasePath()).loadInBackground();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.workday.plugin.testrunner.common;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.intellij.openapi.application.ApplicationManager;
+
+/**
+ * Login-shell environment captured once per IDE session.
+ * <p>
+ * IntelliJ runs as a macOS GUI app and does not inherit the terminal PATH, which is needed
+ * for ssh/scp and for cloudflared (SSH ProxyCommand on *.prd.workdaysuv.com hosts).
+ * Instead of sourcing the zsh profile in front of every command, the profile is sourced once
+ * in a background task, its environment (PATH, SSH_AUTH_SOCK, ...) is cached, and commands are
+ * started as plain argv processes with that environment. The cache is refreshed in the
+ * background when one of the profile files changes.
+ *
+ * @author alexander.aizikivsky
+ * @since Oct-2026
+ */
+public final class ShellEnvironment {
+
+    private static final String HOME = System.getProperty("user.home");
+    private static final File[] PROFILE_FILES = {
+        new File("/etc/profile"), new File(HOME, ".zshrc"), new File(HOME, ".zprofile")
+    };
+    private static final String ENV_MARKER = "__OMS_ENV_START__";
+    private static final String CAPTURE_CMD =
+        "source /etc/profile 2>/dev/null; source ~/.zshrc 2>/dev/null; source ~/.zprofile 2>/dev/null; " +
+        "echo " + ENV_MARKER + "; env";
+    private static final long CAPTURE_TIMEOUT_SECONDS = 15;
+
+    private static final ShellEnvironment INSTANCE = new ShellEnvironment();
+
+    private volatile Map<String, String> env;                        // last completed capture
+    private volatile CompletableFuture<Map<String, String>> pending;  // capture in flight (or last one)
+    private volatile long capturedProfileStamp;
+
+    private ShellEnvironment() {
+    }
+
+    public static ShellEnvironment getInstance() {
+        return INSTANCE;
+    }
+
+    /** Starts capturing in the background (no-op if a capture is already current or running). */
+    public void warmUp() {
+        get(false);
+    }
+
+    /** The captured environment; waits for the first capture, later refreshes never block. */
+    public Map<String, String> get() {
+        return get(true);
+    }
+
+    /** Absolute path of an executable on the captured PATH, or null (e.g. "cloudflared"). */
+    public String which(final String executable) {
+        final String path = get().getOrDefault("PATH", "");
+        for (String dir : path.split(File.pathSeparator)) {
+            final File f = new File(dir, executable);
+            if (!dir.isEmpty() && f.isFile() && f.canExecute()) {
+                return f.getAbsolutePath();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * ProcessBuilder for argv with the captured environment. The executable is resolved against the
+     * captured PATH because ProcessBuilder would otherwise search the IDE's own PATH.
+     */
+    public ProcessBuilder processBuilder(final List<String> argv) {
+        final List<String> command = new ArrayList<>(argv);
+        final String exe = command.get(0);
+        if (!exe.contains("/")) {
+            final String resolved = which(exe);
+            if (resolved != null) {
+                command.set(0, resolved);
+            }
+        }
+        final ProcessBuilder pb = new ProcessBuilder(command);
+        pb.environment().putAll(get());
+        return pb;
+    }
+
+    public ProcessBuilder processBuilder(final String... argv) {
+        return processBuilder(List.of(argv));
+    }
+
+    /** For local pipelines only: runs cmd under /bin/sh (not zsh — no profile is sourced). */
+    public ProcessBuilder shell(final String cmd) {
+        return processBuilder("/bin/sh", "-c", cmd);
+    }
+
+    private Map<String, String> get(final boolean wait) {
+        final long stamp = profileStamp();
+        if (env == null || stamp != capturedProfileStamp) {
+            refreshAsync(stamp);
+        }
+        final Map<String, String> current = env;
+        if (current != null || !wait) {
+            // while a refresh runs, keep serving the previous environment
+            return current;
+        }
+        try {
+            return pending.get(CAPTURE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+        catch (Exception e) {
+            return System.getenv();
+        }
+    }
+
+    private synchronized void refreshAsync(final long stamp) {
+        if (pending != null && !pending.isDone()) {
+            return;
+        }
+        if (env != null && stamp == capturedProfileStamp) {
+            return;
+        }
+        capturedProfileStamp = stamp;
+        final CompletableFuture<Map<String, String>> future = new CompletableFuture<>();
+        pending = future;
+        ApplicationManager.getApplication().executeOnPooledThread(() -> {
+            final Map<String, String> captured = captureNow();
+            env = captured;
+            future.complete(captured);
+        });
+    }
+
+    private static Map<String, String> captureNow() {
+        try {
+            final Process p = new ProcessBuilder("/bin/zsh", "-c", CAPTURE_CMD)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+            final Map<String, String> env = new HashMap<>();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(p.getInputStream(), StandardCharsets.UTF_8))) {
+                boolean started = false;
+                String lastKey = null;
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!started) {
+                        // the profile itself may print banners before our marker
+                        started = line.equals(ENV_MARKER);
+                        continue;
+                    }
+                    final int eq = line.indexOf('=');
+                    if (eq > 0 && line.substring(0, eq).matches("[A-Za-z_][A-Za-z0-9_]*")) {
+                        lastKey = line.substring(0, eq);
+                        env.put(lastKey, line.substring(eq + 1));
+                    }
+                    else if (lastKey != null) {
+                        // continuation of a multi-line value
+                        env.put(lastKey, env.get(lastKey) + "\n" + line);
+                    }
+                }
+            }
+            if (!p.waitFor(CAPTURE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                p.destroyForcibly();
+            }
+            return env.containsKey("PATH") ? env : System.getenv();
+        }
+        catch (Exception e) {
+            return System.getenv();
+        }
+    }
+
+    private static long profileStamp() {
+        long stamp = 0;
+        for (File f : PROFILE_FILES) {
+            stamp = 31 * stamp + f.lastModified();
+        }
+        return stamp;
+    }
+}
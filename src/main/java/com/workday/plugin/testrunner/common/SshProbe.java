@@ -1,7 +1,5 @@
 package com.workday.plugin.testrunner.common;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
 import java.util.Locale;
 
 /**
@@ -32,25 +30,22 @@ public final class SshProbe {
 
     /**
      * Probes SSH reachability to user@host without prompting.
+     * A successful probe leaves a shared session behind (see {@link SshSessionManager}).
      * Semantics:
      *  - exit=0                      => reachable (and you had working keys)
      *  - "Permission denied"/auth    => reachable (host up, SSH answering)
      *  - DNS/timeout/no route        => not reachable
      */
     public static Result probe(String user, String host, int timeoutSeconds) {
-        String cmd = String.format(
-            "ssh -o BatchMode=yes -o StrictHostKeyChecking=no -o ConnectTimeout=%d %s@%s exit",
-            timeoutSeconds, user, host);
         try {
-            final String fullCmd = "source /etc/profile 2>/dev/null; source ~/.zshrc 2>/dev/null; source ~/.zprofile 2>/dev/null; " + cmd;
-            Process p = new ProcessBuilder("/bin/zsh", "-c", fullCmd).start();
-
-            StringBuilder err = new StringBuilder();
-            try (BufferedReader er = new BufferedReader(new InputStreamReader(p.getErrorStream()))) {
-                String line;
-                while ((line = er.readLine()) != null) err.append(line).append('\n');
+            final SshSessionManager sessions = SshSessionManager.getInstance();
+            if (sessions.isAlive(host)) {
+                // an open shared session proves the host is up and our keys work
+                return new Result(true, "connected (shared session)", 0, "", host);
             }
-            int code = p.waitFor();
+            // The probe itself opens the shared session, so the run that follows skips the handshake
+            StringBuilder err = new StringBuilder();
+            int code = sessions.openSession(user, host, timeoutSeconds, err);
 
             String stderr = err.toString();
             String e = stderr.toLowerCase(Locale.ROOT);
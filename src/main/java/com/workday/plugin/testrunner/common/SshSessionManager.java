@@ -0,0 +1,170 @@
+package com.workday.plugin.testrunner.common;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shares one authenticated SSH connection per host between all remote steps of a run
+ * (probe, cleanup, jmxterm, SCP, cancel) using OpenSSH ControlMaster sockets.
+ * Only the first command per host pays for the handshake through the cloudflared ProxyCommand;
+ * later commands attach to the master as multiplexed channels.
+ * <p>
+ * Masters are started explicitly (-M -N -f) and persist for {@value #PERSIST_SECONDS}s
+ * after the last channel closes. If a master is gone, ssh silently falls back to a direct connection.
+ *
+ * @author alexander.aizikivsky
+ * @since Oct-2026
+ */
+public final class SshSessionManager {
+
+    private static final String SSH_USER = "root";
+    private static final long PERSIST_SECONDS = 600;
+    private static final int MASTER_CONNECT_TIMEOUT_SECONDS = 10;
+    // Unix socket paths are limited to ~104 chars on macOS, so keep the directory short and use %C (hash)
+    private static final String CONTROL_DIR = "/tmp/oms-ssh-" + System.getProperty("user.name");
+    private static final String CONTROL_PATH = CONTROL_DIR + "/%C";
+
+    private static final SshSessionManager INSTANCE = new SshSessionManager();
+
+    // host -> last time a command was handed the master (used for idle tracking)
+    private final Map<String, Long> lastUsed = new ConcurrentHashMap<>();
+    private final Map<String, Object> locks = new ConcurrentHashMap<>();
+
+    private SshSessionManager() {
+        Runtime.getRuntime().addShutdownHook(new Thread(this::closeAll, "oms-ssh-close"));
+    }
+
+    public static SshSessionManager getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns ssh/scp options that route the command through the shared session for the host,
+     * opening the session first if needed. Never fails: without a master ssh connects directly.
+     */
+    public List<String> options(final String host) {
+        ensureSession(host);
+        return List.of("-o", "ControlMaster=no", "-o", "ControlPath=" + CONTROL_PATH);
+    }
+
+    /** Makes sure a master connection for the host is up, (re)starting it when it has timed out. */
+    public void ensureSession(final String host) {
+        synchronized (lockFor(host)) {
+            final long now = System.currentTimeMillis();
+            final Long last = lastUsed.get(host);
+            if (last != null && now - last < TimeUnit.SECONDS.toMillis(PERSIST_SECONDS)) {
+                lastUsed.put(host, now);
+                return;
+            }
+            lastUsed.remove(host);
+            if (isAlive(host) || openSession(SSH_USER, host, MASTER_CONNECT_TIMEOUT_SECONDS, new StringBuilder()) == 0) {
+                lastUsed.put(host, now);
+            }
+        }
+    }
+
+    /**
+     * Starts a master connection for the host. Returns the ssh exit code; stderr of the
+     * attempt is appended to {@code stderr} so callers (SshProbe) can classify failures.
+     */
+    public int openSession(final String user,
+                           final String host,
+                           final int connectTimeoutSeconds,
+                           final StringBuilder stderr) {
+        synchronized (lockFor(host)) {
+            File errFile = null;
+            try {
+                new File(CONTROL_DIR).mkdirs();
+                // The backgrounded master may keep inherited descriptors open, so never read its
+                // output through a pipe: stdout is discarded and stderr goes to a temp file.
+                errFile = File.createTempFile("oms-ssh-", ".err");
+                final Process p = ShellEnvironment.getInstance().processBuilder(
+                        "ssh", "-M", "-N", "-f", "-n",
+                        "-o", "ControlPath=" + CONTROL_PATH,
+                        "-o", "ControlPersist=" + PERSIST_SECONDS + "s",
+                        "-o", "BatchMode=yes",
+                        "-o", "StrictHostKeyChecking=accept-new",
+                        "-o", "ConnectTimeout=" + connectTimeoutSeconds,
+                        user + "@" + host)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .redirectError(errFile)
+                    .start();
+                final int code = p.waitFor();
+                stderr.append(Files.readString(errFile.toPath(), StandardCharsets.UTF_8));
+                if (code == 0) {
+                    lastUsed.put(host, System.currentTimeMillis());
+                }
+                return code;
+            }
+            catch (Exception e) {
+                stderr.append(e);
+                return -1;
+            }
+            finally {
+                if (errFile != null) {
+                    errFile.delete();
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds a local port forward (localhost:localPort -> host's localhost:remotePort) to the host's
+     * shared session, so the tunnel costs no extra handshake. Returns false if it could not be added.
+     */
+    public boolean forward(final String host, final int localPort, final int remotePort) {
+        ensureSession(host);
+        return control(host, "forward", "-L", forwardSpec(localPort, remotePort)) == 0;
+    }
+
+    public void cancelForward(final String host, final int localPort, final int remotePort) {
+        control(host, "cancel", "-L", forwardSpec(localPort, remotePort));
+    }
+
+    /** Asks the local master for the host whether it is still running (no network round trip). */
+    public boolean isAlive(final String host) {
+        return control(host, "check") == 0;
+    }
+
+    public void close(final String host) {
+        lastUsed.remove(host);
+        control(host, "exit");
+    }
+
+    public void closeAll() {
+        for (String host : lastUsed.keySet()) {
+            close(host);
+        }
+    }
+
+    private int control(final String host, final String command, final String... args) {
+        final List<String> argv = new ArrayList<>(List.of("ssh", "-O", command));
+        argv.addAll(List.of(args));
+        argv.addAll(List.of("-o", "ControlPath=" + CONTROL_PATH, SSH_USER + "@" + host));
+        try {
+            return ShellEnvironment.getInstance()
+                .processBuilder(argv)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start()
+                .waitFor();
+        }
+        catch (Exception e) {
+            return -1;
+        }
+    }
+
+    private static String forwardSpec(final int localPort, final int remotePort) {
+        return localPort + ":localhost:" + remotePort;
+    }
+
+    private Object lockFor(final String host) {
+        return locks.computeIfAbsent(host, h -> new Object());
+    }
+}
@@ -0,0 +1,407 @@
+package com.workday.plugin.testrunner.common;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.intellij.ide.util.PropertiesComponent;
+import com.intellij.openapi.application.PathManager;
+
+/**
+ * Duration and outcome of every test method run, per project and per environment (the local ORS,
+ * an SUV host, RemoteJ). Sharding, queue estimates and the run order all read the durations from here.
+ * <p>
+ * Each project has one append-only binary file in the IDE system directory. A name (environment, class or
+ * method) is written once and then referred to by its number; a run is a few bytes. The whole file is read
+ * into memory once, in the background ({@link #loadInBackground()}), and only the last {@link #KEEP_RUNS}
+ * runs of each test are kept there; once the file holds much more than that, it is rewritten from memory.
+ * <p>
+ * Class durations are published as an immutable snapshot that is read without locking and without
+ * touching the disk, so estimates on the EDT never wait for loading, recording or compaction. Records
+ * are encoded under the lock and written by a single background thread in the order they were made.
+ *
+ * @author alexander.aizikivsky
+ * @since Oct-2026
+ */
+public final class TestHistoryStore {
+
+    public static final String LOCAL = "local";
+    public static final String REMOTE_J = "remoteJ";
+    /** Class durations imported from the "oms.classDurations" setting of older versions; any real run wins. */
+    public static final String IMPORTED = "imported";
+
+    /** In order of precedence when variants of a method are merged; the ordinal is stored on disk. */
+    public enum Status { SKIPPED, PASSED, FAILED }
+
+    /** One test method result to record; parameterized variants of a method may come as separate outcomes. */
+    public record Outcome(String className, String methodName, long durationMillis, Status status) {
+    }
+
+    /** One recorded run of a test method. */
+    private record Run(long timestamp, long durationMillis, Status status) {
+    }
+
+    private static final String DIR_NAME = "oms-test-history";
+    private static final String LEGACY_DURATIONS_KEY = "oms.classDurations";
+    private static final int MAGIC = 0x4F4D5348; // "OMSH"
+    private static final byte VERSION = 1;
+    private static final byte NAME = 1;
+    private static final byte RUN = 2;
+    private static final int KEEP_RUNS = 20;
+    private static final int COMPACT_SLACK = 10_000; // runs the file may hold beyond twice the live ones
+
+    private static final Map<String, TestHistoryStore> STORES = new ConcurrentHashMap<>();
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(r -> {
+        final Thread t = new Thread(r, "oms-test-history");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final Path file;
+    /** environment -> class -> method -> last runs, oldest first; guarded by this */
+    private Map<String, Map<String, Map<String, ArrayDeque<Run>>>> runs;
+    private final Map<String, Integer> ids = new HashMap<>();
+    private int fileRuns;
+    private int liveRuns;
+    private boolean fileValid;
+    private volatile boolean damaged;
+    private volatile boolean loading;
+    /** environment -> class -> last duration; replaced as a whole, never changed */
+    private volatile Map<String, Map<String, Long>> durations = Map.of();
+
+    private TestHistoryStore(final Path file) {
+        this.file = file;
+    }
+
+    /** The store of the project at the base path; nothing is read until it is loaded. */
+    public static TestHistoryStore forBasePath(final String basePath) {
+        return STORES.computeIfAbsent(basePath, p -> {
+            final Path path = Path.of(p);
+            final String name = path.getFileName() == null ? "root" : path.getFileName().toString();
+            return new TestHistoryStore(Path.of(PathManager.getSystemPath(), DIR_NAME,
+                name.replaceAll("[^A-Za-z0-9._-]", "_") + "-" + Integer.toHexString(p.hashCode()) + ".bin"));
+        });
+    }
+
+    /** The store of the project the plugin currently works on ({@link Locations#getBasePath()}); null if none. */
+    @Nullable
+    public static TestHistoryStore current() {
+        final String basePath = Locations.getBasePath();
+        return basePath == null || basePath.isBlank() ? null : forBasePath(basePath);
+    }
+
+    /** The environment name of a JMX run on the host: {@link #LOCAL} for {@link Locations#LOCALHOST}, "ors:host" otherwise. */
+    public static String environmentOf(final String host) {
+        return Locations.LOCALHOST.equals(host) ? LOCAL : "ors:" + host;
+    }
+
+    /** Reads the file on the writer thread unless it is read already; returns at once. */
+    public void loadInBackground() {
+        if (runs != null || loading) {
+            return;
+        }
+        loading = true;
+        WRITER.execute(() -> {
+            synchronized (this) {
+                load();
+            }
+        });
+    }
+
+    /**
+     * Last duration of each test class per environment: the sum of its methods' latest durations there.
+     * Never blocks; empty until the store is loaded, which this starts if needed.
+     */
+    public Map<String, Map<String, Long>> classDurations() {
+        loadInBackground();
+        return durations;
+    }
+
+    /**
+     * Records the outcomes of one run in the environment, timestamped now. Outcomes of the same method
+     * (parameterized variants) become one run: durations add up, a failure wins over a pass, a pass over a skip.
+     * Reads the file first if needed, so call it off the EDT; the write itself happens in the background.
+     */
+    public synchronized void record(final String environment, final Collection<Outcome> outcomes) {
+        final Map<String, Outcome> byMethod = new LinkedHashMap<>();
+        for (Outcome o : outcomes) {
+            byMethod.merge(o.className() + "#" + o.methodName(), o, (a, b) -> new Outcome(a.className(), a.methodName(),
+                a.durationMillis() + b.durationMillis(), a.status().compareTo(b.status()) >= 0 ? a.status() : b.status()));
+        }
+        if (byMethod.isEmpty()) {
+            return;
+        }
+        load();
+        final long now = System.currentTimeMillis();
+        final List<String[]> keys = new ArrayList<>();
+        final List<Run> added = new ArrayList<>();
+        for (Outcome o : byMethod.values()) {
+            final Run run = new Run(now, Math.max(0, o.durationMillis()), o.status());
+            add(environment, o.className(), o.methodName(), run);
+            keys.add(new String[] { environment, o.className(), o.methodName() });
+            added.add(run);
+        }
+        publish(environment, byMethod.values().stream().map(Outcome::className).toList());
+        if (damaged || !fileValid || fileRuns + added.size() > 2 * liveRuns + COMPACT_SLACK) {
+            compact();
+        }
+        else {
+            append(keys, added);
+        }
+    }
+
+    private void add(final String environment, final String className, final String methodName, final Run run) {
+        final ArrayDeque<Run> deque = runs.computeIfAbsent(environment, k -> new HashMap<>())
+            .computeIfAbsent(className, k -> new HashMap<>())
+            .computeIfAbsent(methodName, k -> new ArrayDeque<>());
+        deque.addLast(run);
+        liveRuns++;
+        if (deque.size() > KEEP_RUNS) {
+            deque.removeFirst();
+            liveRuns--;
+        }
+    }
+
+    /** Publishes a new snapshot with the durations of the classes in the environment recomputed. */
+    private void publish(final String environment, final Collection<String> classes) {
+        final Map<String, Map<String, ArrayDeque<Run>>> envRuns = runs.getOrDefault(environment, Map.of());
+        final Map<String, Long> envDurations = new HashMap<>(durations.getOrDefault(environment, Map.of()));
+        for (String cls : classes) {
+            envDurations.put(cls, classDuration(envRuns.get(cls)));
+        }
+        final Map<String, Map<String, Long>> next = new HashMap<>(durations);
+        next.put(environment, Map.copyOf(envDurations));
+        durations = Map.copyOf(next);
+    }
+
+    private static long classDuration(final Map<String, ArrayDeque<Run>> methods) {
+        long sum = 0;
+        for (ArrayDeque<Run> deque : methods.values()) {
+            sum += deque.getLast().durationMillis();
+        }
+        return sum;
+    }
+
+    private Map<String, Map<String, Map<String, ArrayDeque<Run>>>> load() {
+        if (runs != null) {
+            return runs;
+        }
+        runs = new HashMap<>();
+        read();
+        importLegacyDurations();
+        final Map<String, Map<String, Long>> all = new HashMap<>();
+        runs.forEach((environment, classes) -> {
+            final Map<String, Long> envDurations = new HashMap<>();
+            classes.forEach((cls, methods) -> envDurations.put(cls, classDuration(methods)));
+            all.put(environment, Map.copyOf(envDurations));
+        });
+        durations = Map.copyOf(all);
+        loading = false;
+        return runs;
+    }
+
+    private void read() {
+        if (!Files.exists(file)) {
+            return;
+        }
+        final List<String> names = new ArrayList<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readByte() != VERSION) {
+                damaged = true;
+                return;
+            }
+            fileValid = true;
+            while (true) {
+                final int type = in.read();
+                if (type < 0) {
+                    break;
+                }
+                if (type == NAME) {
+                    final String name = in.readUTF();
+                    ids.put(name, names.size());
+                    names.add(name);
+                }
+                else if (type == RUN) {
+                    final String environment = names.get(readVarInt(in));
+                    final String className = names.get(readVarInt(in));
+                    final String methodName = names.get(readVarInt(in));
+                    final Status status = Status.values()[in.readByte()];
+                    final long duration = readVarLong(in);
+                    add(environment, className, methodName, new Run(in.readLong(), duration, status));
+                    fileRuns++;
+                }
+                else {
+                    damaged = true;
+                    break;
+                }
+            }
+        }
+        catch (EOFException | IndexOutOfBoundsException e) {
+            damaged = true; // cut off by a crash in the middle of an append, or garbage: rewritten with the next run
+        }
+        catch (IOException ignored) {
+            damaged = true;
+        }
+    }
+
+    /**
+     * Moves the "fqn=millis" class durations that older versions kept in PropertiesComponent into the
+     * {@link #IMPORTED} environment, as one run at time 0 per class, and removes the setting.
+     */
+    private void importLegacyDurations() {
+        final PropertiesComponent properties = PropertiesComponent.getInstance();
+        final String csv = properties.getValue(LEGACY_DURATIONS_KEY);
+        if (csv == null) {
+            return;
+        }
+        for (String pair : csv.split(",")) {
+            final int eq = pair.lastIndexOf('=');
+            if (eq > 0) {
+                try {
+                    add(IMPORTED, pair.substring(0, eq), "", new Run(0, Long.parseLong(pair.substring(eq + 1)), Status.PASSED));
+                }
+                catch (NumberFormatException ignored) {
+                    // skip a damaged entry
+                }
+            }
+        }
+        compact();
+        properties.unsetValue(LEGACY_DURATIONS_KEY);
+    }
+
+    /** Encodes the runs now and appends them on the writer thread. */
+    private void append(final List<String[]> keys, final List<Run> added) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            for (int i = 0; i < keys.size(); i++) {
+                writeRun(out, keys.get(i)[0], keys.get(i)[1], keys.get(i)[2], added.get(i));
+            }
+        }
+        catch (IOException e) {
+            throw new IllegalStateException(e); // in-memory stream
+        }
+        fileRuns += added.size();
+        WRITER.execute(() -> {
+            try {
+                Files.write(file, bytes.toByteArray(), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            catch (IOException ignored) {
+                // the names written so far are unknown now: the next run rewrites the file from memory
+                damaged = true;
+            }
+        });
+    }
+
+    /** Encodes only the runs kept in memory now and replaces the file with them on the writer thread. */
+    private void compact() {
+        ids.clear();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            for (Map.Entry<String, Map<String, Map<String, ArrayDeque<Run>>>> env : runs.entrySet()) {
+                for (Map.Entry<String, Map<String, ArrayDeque<Run>>> cls : env.getValue().entrySet()) {
+                    for (Map.Entry<String, ArrayDeque<Run>> method : cls.getValue().entrySet()) {
+                        for (Run run : method.getValue()) {
+                            writeRun(out, env.getKey(), cls.getKey(), method.getKey(), run);
+                        }
+                    }
+                }
+            }
+        }
+        catch (IOException e) {
+            throw new IllegalStateException(e); // in-memory stream
+        }
+        fileRuns = liveRuns;
+        fileValid = true;
+        damaged = false;
+        WRITER.execute(() -> {
+            try {
+                Files.createDirectories(file.getParent());
+                final Path tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+                Files.write(tmp, bytes.toByteArray());
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            catch (IOException ignored) {
+                // kept in memory; rewritten again with the next recorded run
+                damaged = true;
+            }
+        });
+    }
+
+    private void writeRun(final DataOutputStream out, final String environment, final String className,
+                          final String methodName, final Run run) throws IOException {
+        final int env = id(out, environment);
+        final int cls = id(out, className);
+        final int method = id(out, methodName);
+        out.writeByte(RUN);
+        writeVarInt(out, env);
+        writeVarInt(out, cls);
+        writeVarInt(out, method);
+        out.writeByte(run.status().ordinal());
+        writeVarLong(out, run.durationMillis());
+        out.writeLong(run.timestamp());
+    }
+
+    /** The number of the name in the file, writing the name first if it is not there yet. */
+    private int id(final DataOutputStream out, final String name) throws IOException {
+        final Integer id = ids.get(name);
+        if (id != null) {
+            return id;
+        }
+        out.writeByte(NAME);
+        out.writeUTF(name);
+        final int next = ids.size();
+        ids.put(name, next);
+        return next;
+    }
+
+    private static void writeVarInt(final DataOutput out, final int value) throws IOException {
+        writeVarLong(out, value);
+    }
+
+    private static void writeVarLong(final DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static int readVarInt(final DataInput in) throws IOException {
+        return (int) readVarLong(in);
+    }
+
+    private static long readVarLong(final DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed number");
+    }
+}
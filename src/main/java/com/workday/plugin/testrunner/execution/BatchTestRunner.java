@@ -0,0 +1,293 @@
+package com.workday.plugin.testrunner.execution;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.intellij.openapi.application.ApplicationManager;
+
+import com.workday.plugin.testrunner.common.Locations;
+import com.workday.plugin.testrunner.common.TestHistoryStore;
+import com.workday.plugin.testrunner.ui.TestResultPresenter;
+import com.workday.plugin.testrunner.ui.TestSuiteResult;
+import com.workday.plugin.testrunner.ui.UiContentDescriptor;
+
+/**
+ * Runs a set of OMS test classes sharded over several SUV hosts at the same time and renders
+ * the merged results in one tab.
+ * <p>
+ * Classes are queued longest first by their last known duration ({@link TestDurations}) and every host
+ * takes the next class as soon as it is done with the previous one (longest-processing-time scheduling).
+ * This keeps the shards balanced even when estimates are off, and a host that fails hands its remaining
+ * work to the others. Each class runs as its own executeTestSuite call through {@link OrsRunStrategy};
+ * live events are off because several suites are running into one tree at once.
+ * Hosts that are busy when the run starts are skipped; the others are reserved in {@link RunScheduler}
+ * for the whole run, so runs submitted meanwhile wait in the host queues.
+ * <p>
+ * {@link #runInOrder} runs a list of classes and methods (e.g. the failures of the last run) on one host,
+ * local or SUV, in the given order, and {@link #runQueued} runs classes on one host longest first; both wait
+ * in the host's queue like any other run.
+ *
+ * @author alexander.aizikivsky
+ * @since Oct-2026
+ */
+public final class BatchTestRunner {
+
+    private final List<String> hosts;
+    private final String category;
+    private final UiContentDescriptor.UiProcessHandler handler;
+    private final Map<String, Long> estimates = new ConcurrentHashMap<>();
+    private final Queue<String> queue;
+    private final Queue<TestSuiteResult> merged = new ConcurrentLinkedQueue<>();
+    private final Set<String> notRun = ConcurrentHashMap.newKeySet();
+    private final Set<String> retried = ConcurrentHashMap.newKeySet();
+    private final List<ShardHandler> shards = new ArrayList<>();
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+    /** Shards still taking classes; a failed host gives its class to the others only while some are left. */
+    private final AtomicInteger liveShards = new AtomicInteger();
+
+    /**
+     * @param targets class names, or "Class@method(params)" for single methods
+     * @param category test category the classes run with, "empty" for any
+     * @param ordered run the targets in list order instead of longest first
+     */
+    private BatchTestRunner(final List<String> hosts, final List<String> targets, final String category,
+                            final boolean ordered, final UiContentDescriptor.UiProcessHandler handler) {
+        this.hosts = hosts;
+        this.category = category;
+        this.handler = handler;
+        final String environment = TestHistoryStore.environmentOf(hosts.get(0));
+        targets.forEach(target ->
+            estimates.put(target, TestDurations.estimateRun(ParamBuilder.getTargetArgs(target), environment)));
+        final Comparator<String> longestFirst =
+            Comparator.<String>comparingLong(estimates::get).reversed().thenComparing(Comparator.naturalOrder());
+        this.queue = new PriorityBlockingQueue<>(Math.max(1, targets.size()),
+            ordered ? Comparator.comparingInt(targets::indexOf) : longestFirst);
+        this.queue.addAll(targets);
+    }
+
+    /**
+     * Starts the sharded run on a pooled thread; the handler is finished when all hosts are done.
+     * Each class runs with the category, "empty" for any.
+     */
+    public static void runSharded(final List<String> hosts, final List<String> classes, final String category,
+                                  final UiContentDescriptor descriptor) {
+        final BatchTestRunner runner =
+            new BatchTestRunner(hosts, classes, category, false, descriptor.getUiProcessHandler());
+        ApplicationManager.getApplication().executeOnPooledThread(runner::run);
+    }
+
+    /**
+     * Queues the targets (class names or "Class@method(params)") as one run on the host and runs them one
+     * after another in list order once the host is free. {@link Locations#LOCALHOST} runs on the local ORS.
+     */
+    public static void runInOrder(final String host, final List<String> targets, final UiContentDescriptor descriptor) {
+        submit(host, targets, "empty", true, descriptor);
+    }
+
+    /**
+     * Queues the classes as one run on the host like {@link #runInOrder}, longest first, each with the
+     * category ("empty" for any).
+     */
+    public static void runQueued(final String host, final List<String> classes, final String category,
+                                 final UiContentDescriptor descriptor) {
+        submit(host, classes, category, false, descriptor);
+    }
+
+    private static void submit(final String host, final List<String> targets, final String category,
+                               final boolean ordered, final UiContentDescriptor descriptor) {
+        final UiContentDescriptor.UiProcessHandler handler = descriptor.getUiProcessHandler();
+        final BatchTestRunner runner = new BatchTestRunner(List.of(host), targets, category, ordered, handler);
+        final long total = runner.estimates.values().stream().mapToLong(Long::longValue).sum();
+        // the host is held until the handler finishes
+        RunScheduler.getInstance().submit(host, total, descriptor, runHost -> {
+            runner.shards.add(new ShardHandler(handler, runHost, runner.cancelled));
+            runner.runShards();
+        });
+    }
+
+    private void run() {
+        final List<String> busy = new ArrayList<>();
+        for (String host : hosts) {
+            if (RunScheduler.getInstance().tryReserve(host)) {
+                shards.add(new ShardHandler(handler, host, cancelled));
+            }
+            else {
+                busy.add(host);
+            }
+        }
+        if (!busy.isEmpty()) {
+            handler.log("Skipping busy hosts: " + String.join(", ", busy));
+        }
+        if (shards.isEmpty()) {
+            handler.error("All selected hosts are running or have queued tests");
+            handler.finish(1);
+            return;
+        }
+        try {
+            runShards();
+        }
+        finally {
+            shards.forEach(shard -> RunScheduler.getInstance().release(shard.host));
+        }
+    }
+
+    private void runShards() {
+        final long total = estimates.values().stream().mapToLong(Long::longValue).sum();
+        if (shards.size() == 1) {
+            handler.log("Running " + queue.size() + " tests on " + shards.get(0).host + ", estimated " + formatMinutes(total));
+        }
+        else {
+            handler.log("Sharding " + queue.size() + " classes over " + shards.size() + " hosts, estimated "
+                + formatMinutes(total / shards.size()) + " (serial " + formatMinutes(total) + ")");
+        }
+        handler.setCancelHandler(() -> {
+            cancelled.set(true);
+            shards.forEach(ShardHandler::cancel);
+        });
+
+        final long startedAt = System.currentTimeMillis();
+        liveShards.set(shards.size());
+        final List<Future<?>> futures = new ArrayList<>();
+        for (ShardHandler shard : shards) {
+            futures.add(ApplicationManager.getApplication().executeOnPooledThread(() -> runShard(shard)));
+        }
+        for (Future<?> f : futures) {
+            try {
+                f.get();
+            }
+            catch (Exception e) {
+                handler.error("Shard failed: " + e.getMessage());
+            }
+        }
+        handler.setCancelHandler(null);
+
+        if (cancelled.get()) {
+            handler.log("Test cancelled");
+            handler.finish(0);
+            return;
+        }
+        notRun.addAll(queue);
+        handler.log("Finished in " + formatMinutes(System.currentTimeMillis() - startedAt));
+        if (!notRun.isEmpty()) {
+            handler.error("Not run (" + notRun.size() + "): " + String.join(", ", notRun));
+        }
+        new TestResultPresenter().displaySuites(new ArrayList<>(merged), handler, notRun.isEmpty() ? 0 : 1);
+    }
+
+    private void runShard(final ShardHandler shard) {
+        final RunStrategy strategy = Locations.LOCALHOST.equals(shard.host)
+            ? new LocalRunStrategy(new OSCommands(shard.host), Locations.getLocalResultFile(), Locations.getBasePath())
+            : new OrsRunStrategy(new OSCommands(shard.host), shard.host);
+        String cls;
+        while (!cancelled.get() && (cls = queue.poll()) != null) {
+            shard.log("Running " + cls);
+            try {
+                final List<TestSuiteResult> results =
+                    TestRunner.runForResults(strategy, ParamBuilder.getTargetArgs(cls, category), shard);
+                if (results != null) {
+                    merged.addAll(results);
+                    if (handler.getHistoryEnvironment() == null) {
+                        // several hosts share the tab, so each shard records its own classes
+                        recordHistory(shard.host, results);
+                    }
+                }
+                else if (!cancelled.get()) {
+                    notRun.add(cls);
+                }
+            }
+            catch (Exception e) {
+                // the host is unusable (OMS down, SSH lost): give the class to another host once and stop here
+                final boolean othersLeft = liveShards.decrementAndGet() > 0;
+                if (othersLeft) {
+                    shard.error("Host failed, leaving the remaining classes to the other hosts: " + e.getMessage());
+                }
+                else {
+                    shard.error("Host failed, no other host left to run the remaining classes: " + e.getMessage());
+                }
+                if (othersLeft && retried.add(cls)) {
+                    queue.add(cls);
+                }
+                else {
+                    notRun.add(cls);
+                }
+                return;
+            }
+        }
+        liveShards.decrementAndGet();
+    }
+
+    private static void recordHistory(final String host, final List<TestSuiteResult> results) {
+        final TestHistoryStore store = TestHistoryStore.current();
+        if (store != null) {
+            store.record(TestHistoryStore.environmentOf(host),
+                results.stream().flatMap(suite -> suite.historyOutcomes().stream()).toList());
+        }
+    }
+
+    private static String formatMinutes(final long millis) {
+        return String.format("~%d min", Math.max(1, Math.round(millis / 60_000.0)));
+    }
+
+    /**
+     * Per-host view of the tab's handler: forwards output with a host prefix, keeps the run's cancel hook.
+     * It counts as stopped once the whole run is cancelled, so a shard still in its pre-run stage neither
+     * misses the cancel nor starts the suite afterwards.
+     */
+    private static final class ShardHandler extends UiContentDescriptor.UiProcessHandler {
+
+        private final UiContentDescriptor.UiProcessHandler parent;
+        private final String host;
+        private final String prefix;
+        private final AtomicBoolean runCancelled;
+        private volatile Runnable cancel;
+
+        ShardHandler(final UiContentDescriptor.UiProcessHandler parent, final String host,
+                     final AtomicBoolean runCancelled) {
+            this.parent = parent;
+            this.host = host;
+            this.prefix = "[" + host.replaceFirst("\\.workdaysuv\\.com$", "") + "] ";
+            this.runCancelled = runCancelled;
+        }
+
+        @Override
+        public void setCancelHandler(final Runnable cancelHandler) {
+            super.setCancelHandler(cancelHandler);
+            this.cancel = cancelHandler;
+            if (cancelHandler != null && runCancelled.get()) {
+                cancelHandler.run(); // the run was cancelled before this stage could be told
+            }
+        }
+
+        @Override
+        public boolean isStopped() {
+            return runCancelled.get() || parent.isStopped() || super.isStopped();
+        }
+
+        void cancel() {
+            final Runnable c = cancel;
+            if (c != null) {
+                c.run();
+            }
+        }
+
+        @Override
+        public void log(final String message) {
+            parent.log(prefix + message);
+        }
+
+        @Override
+        public void error(final String message) {
+            parent.error(prefix + message);
+        }
+    }
+}
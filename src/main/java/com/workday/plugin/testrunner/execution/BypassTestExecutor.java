@@ -4,9 +4,14 @@ import static java.lang.String.join;
 
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import com.intellij.openapi.util.NlsContexts;
 
+import com.workday.plugin.testrunner.common.ShellEnvironment;
+import com.workday.plugin.testrunner.common.SshSessionManager;
 import com.workday.plugin.testrunner.ui.UiContentDescriptor;
 
 /**
@@ -19,6 +24,8 @@ import com.workday.plugin.testrunner.ui.UiContentDescriptor;
  */
 public final class BypassTestExecutor {
 
+    private static final long CANCEL_TIMEOUT_SECONDS = 30;
+
     private final RunStrategy strategy;
     private final int jmxPort;
     private final UiContentDescriptor.UiProcessHandler handler;
@@ -44,8 +51,8 @@ public final class BypassTestExecutor {
                 "bean name=JunitTestListener\n",
                 "run executeTestSuite " + jmxparams + "\n").replace("\n", "\\n");
 
-        String sshCommand = buildSshCommand(jmxInput);
-        this.handler.log("Running SSH command: \n" + sshCommand);
+        List<String> sshCommand = buildSshCommand(jmxInput);
+        this.handler.log("Running SSH command: \n" + String.join(" ", sshCommand));
         runRemoteCommand(sshCommand, "Running test on " + strategy.getHost());
     }
 
@@ -56,31 +63,30 @@ public final class BypassTestExecutor {
                           "bean name=JunitTestListener\\n" +
                           "run executeTestSuite " + jmxparams + "\\n" +
                           "exit";
-        String sshCommand = buildOrsSshCommand(jmxInput);
-        this.handler.log("Running ORS SSH command:\n" + sshCommand);
+        List<String> sshCommand = buildOrsSshCommand(jmxInput);
+        this.handler.log("Running ORS SSH command:\n" + String.join(" ", sshCommand));
         runRemoteCommand(sshCommand, "Running test on ORS " + strategy.getHost());
     }
 
-    private String buildOrsSshCommand(String jmxInput) {
-        return String.format(
-                "ssh -o StrictHostKeyChecking=accept-new root@%s " +
-                "\"OMS_PID=\\$(ss -tlnp | grep 12096 | grep -oP 'pid=\\\\K[0-9]+'); " +
-                "rm -rf /proc/\\$OMS_PID/root/tmp/testout; " +
-                "mkdir -p /proc/\\$OMS_PID/root/tmp/testout; " +
-                "chmod 777 /proc/\\$OMS_PID/root/tmp/testout; " +
-                "chown 500:500 /proc/\\$OMS_PID/root/tmp/testout; " +
-                "echo -e \\\"%s\\\" | java -jar /usr/local/bin/jmxterm-1.0-SNAPSHOT-uber.jar; " +
-                "rm -rf /root/testout; cp -r /proc/\\$OMS_PID/root/tmp/testout /root/testout\"",
-                strategy.getHost(), jmxInput);
+    // The remote script is passed to ssh as a single argv element, so only the remote shell parses it
+    private List<String> buildOrsSshCommand(String jmxInput) {
+        return sshArgv(OrsRunStrategy.ORS_FIND_PID + OrsRunStrategy.ORS_PREPARE_TESTOUT +
+                String.format("echo -e \"%s\" | java -jar /usr/local/bin/jmxterm-1.0-SNAPSHOT-uber.jar", jmxInput));
+    }
+
+    private List<String> buildSshCommand(String jmxInput) {
+        return sshArgv(String.format(
+                RemoteRunStrategy.DOCKER_PREPARE_LOGS + " && " +
+                "echo -e \"%s\" | java -jar /usr/local/bin/jmxterm-1.0-SNAPSHOT-uber.jar",
+                jmxInput));
     }
 
-    private String buildSshCommand(String jmxInput) {
-        // Note: escape the inner quotes for the remote shell
-        return String.format(
-                "ssh -o StrictHostKeyChecking=accept-new root@%s " +
-                        "\"docker exec ors2-17-17 mkdir -p /usr/local/workday-oms/logs/junit && " +
-                        "echo -e \\\"%s\\\" | java -jar /usr/local/bin/jmxterm-1.0-SNAPSHOT-uber.jar\"",
-                strategy.getHost(), jmxInput);
+    private List<String> sshArgv(final String remoteScript) {
+        final List<String> argv = new ArrayList<>();
+        argv.add("ssh");
+        argv.addAll(SshSessionManager.getInstance().options(strategy.getHost()));
+        argv.addAll(List.of("-o", "StrictHostKeyChecking=accept-new", "root@" + strategy.getHost(), remoteScript));
+        return argv;
     }
 
     public boolean isCancelled() {
@@ -89,7 +95,7 @@ public final class BypassTestExecutor {
 
     /**
      * Kills the running SSH process and sends cancelRunningTest to OMS via a separate SSH connection
-     * to release the "another test is running" lock.
+     * to release the "another test is running" lock; returns when that call is done or timed out.
      */
     public void cancel() {
         cancelled = true;
@@ -97,9 +103,7 @@ public final class BypassTestExecutor {
         if (p != null) {
             p.destroyForcibly();
         }
-        final Thread t = new Thread(this::sendCancelToOms, "oms-cancel");
-        t.setDaemon(true);
-        t.start();
+        sendCancelToOms();
     }
 
     private void sendCancelToOms() {
@@ -109,23 +113,23 @@ public final class BypassTestExecutor {
                                     "bean name=JunitTestListener\\n" +
                                     "run cancelRunningTest\\n" +
                                     "exit";
-            final String cmd = String.format(
-                    "ssh -o StrictHostKeyChecking=accept-new root@%s " +
-                    "\"echo -e \\\"%s\\\" | java -jar /usr/local/bin/jmxterm-1.0-SNAPSHOT-uber.jar\"",
-                    strategy.getHost(), jmxInput);
-            final String fullCmd = "source /etc/profile 2>/dev/null; source ~/.zshrc 2>/dev/null; source ~/.zprofile 2>/dev/null; " + cmd;
-            new ProcessBuilder("/bin/zsh", "-c", fullCmd).start().waitFor();
+            final List<String> cmd = sshArgv(String.format(
+                    "echo -e \"%s\" | java -jar /usr/local/bin/jmxterm-1.0-SNAPSHOT-uber.jar", jmxInput));
+            ShellEnvironment.getInstance().processBuilder(cmd)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .redirectError(ProcessBuilder.Redirect.DISCARD)
+                    .start()
+                    .waitFor(CANCEL_TIMEOUT_SECONDS, TimeUnit.SECONDS);
         } catch (Exception ignored) {
             // best-effort: if this fails the OMS lock will remain until the next test run clears it
         }
     }
 
-    private void runRemoteCommand(String command,
+    private void runRemoteCommand(List<String> command,
                                   @NlsContexts.ProgressText String title) {
         this.handler.log(title);
         try {
-            final String fullCmd = "source /etc/profile 2>/dev/null; source ~/.zshrc 2>/dev/null; source ~/.zprofile 2>/dev/null; " + command;
-            Process process = new ProcessBuilder("/bin/zsh", "-c", fullCmd)
+            Process process = ShellEnvironment.getInstance().processBuilder(command)
                     .redirectErrorStream(true)
                     .start();
             runningProcess = process;
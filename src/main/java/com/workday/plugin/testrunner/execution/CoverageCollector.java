@@ -0,0 +1,154 @@
+package com.workday.plugin.testrunner.execution;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.workday.plugin.testrunner.common.OmsSettings;
+import com.workday.plugin.testrunner.ui.UiContentDescriptor;
+
+/**
+ * Records which classes an OMS test class uses while it runs in the ORS JVM, through the runtime MBean of a
+ * JaCoCo agent loaded there ({@code -javaagent:jacocoagent.jar=jmx=true,...}).
+ * <p>
+ * The agent's execution data is reset right before executeTestSuite and read right after it; every class with
+ * at least one executed probe counts as used and the set goes to the project's {@link CoverageImpactMap}. The OMS lock and
+ * the host queue make sure no other test runs in the JVM meanwhile. Only class and method runs are recorded,
+ * since a package run cannot be split per test class. The execution data format is read directly, so the
+ * plugin does not need the JaCoCo libraries.
+ *
+ * @author alexander.aizikivsky
+ * @since Oct-2026
+ */
+final class CoverageCollector {
+
+    static final String JACOCO_MBEAN = "org.jacoco:type=Runtime";
+
+    // JaCoCo execution data file format (org.jacoco.core.data.ExecutionDataWriter)
+    private static final int BLOCK_HEADER = 0x01;
+    private static final int BLOCK_SESSIONINFO = 0x10;
+    private static final int BLOCK_EXECUTIONDATA = 0x11;
+    private static final char MAGIC_NUMBER = 0xC0C0;
+    private static final List<String> SKIPPED_PACKAGES = List.of("java/", "javax/", "jdk/", "sun/", "com/sun/", "org/jacoco/");
+
+    /** The operations of JaCoCo's runtime MBean that are used here. */
+    public interface JacocoAgent {
+
+        void reset();
+
+        byte[] getExecutionData(boolean reset);
+    }
+
+    private final JacocoAgent agent;
+    private final CoverageImpactMap impactMap;
+    private final String testClass;
+    private final boolean methodRun;
+    private final UiContentDescriptor.UiProcessHandler handler;
+
+    private CoverageCollector(final JacocoAgent agent, final CoverageImpactMap impactMap, final String testClass,
+                              final boolean methodRun, final UiContentDescriptor.UiProcessHandler handler) {
+        this.agent = agent;
+        this.impactMap = impactMap;
+        this.testClass = testClass;
+        this.methodRun = methodRun;
+        this.handler = handler;
+    }
+
+    /**
+     * Resets the agent's data if coverage collection is on and the run can be recorded; null otherwise.
+     * The pooled connection to host:port must be acquired.
+     */
+    static CoverageCollector start(final String host, final int port, final String[] jmxParams,
+                                   final UiContentDescriptor.UiProcessHandler handler) {
+        if (!OmsSettings.isCollectCoverage()) {
+            return null;
+        }
+        final boolean methodRun = !"empty".equals(jmxParams[0]);
+        if (!methodRun && "empty".equals(jmxParams[1])) {
+            handler.log("Coverage: package runs are not recorded; run the classes (e.g. sharded) to record them");
+            return null;
+        }
+        final String testClass = methodRun ? jmxParams[0].split("@")[0] : jmxParams[1];
+        final CoverageImpactMap impactMap = CoverageImpactMap.current();
+        if (impactMap == null) {
+            handler.log("Coverage: no project to record it for, not recorded");
+            return null;
+        }
+        try {
+            final JacocoAgent agent = JmxConnectionPool.getInstance().findMBean(host, port, JACOCO_MBEAN, JacocoAgent.class);
+            if (agent == null) {
+                handler.log("Coverage: no JaCoCo agent with jmx=true in the ORS JVM, not recorded");
+                return null;
+            }
+            agent.reset();
+            return new CoverageCollector(agent, impactMap, testClass, methodRun, handler);
+        }
+        catch (IOException | RuntimeException e) {
+            handler.log("Coverage: not recorded (" + e.getMessage() + ")");
+            return null;
+        }
+    }
+
+    /** Reads and resets the agent's data and records the classes the test used. */
+    void finish() {
+        try {
+            final Set<String> classes = usedClasses(agent.getExecutionData(true));
+            // a method run only sees part of the class, so it adds to what the class already has
+            impactMap.record(testClass, classes, methodRun);
+            handler.log("Coverage: " + testClass + " used " + classes.size() + " classes");
+        }
+        catch (IOException | RuntimeException e) {
+            handler.log("Coverage: not recorded (" + e.getMessage() + ")");
+        }
+    }
+
+    /** Top-level class names (dotted) with at least one executed probe in the execution data. */
+    static Set<String> usedClasses(final byte[] data) throws IOException {
+        final DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        final Set<String> classes = new TreeSet<>();
+        int block;
+        while ((block = in.read()) != -1) {
+            switch (block) {
+                case BLOCK_HEADER -> {
+                    if (in.readChar() != MAGIC_NUMBER) {
+                        throw new IOException("not JaCoCo execution data");
+                    }
+                    in.readChar(); // format version
+                }
+                case BLOCK_SESSIONINFO -> {
+                    in.readUTF(); // session id
+                    in.readLong(); // start
+                    in.readLong(); // dump
+                }
+                case BLOCK_EXECUTIONDATA -> {
+                    in.readLong(); // class id
+                    final String vmName = in.readUTF();
+                    if (readAnyProbeHit(in) && SKIPPED_PACKAGES.stream().noneMatch(vmName::startsWith)) {
+                        final int nested = vmName.indexOf('$');
+                        classes.add((nested > 0 ? vmName.substring(0, nested) : vmName).replace('/', '.'));
+                    }
+                }
+                default -> throw new IOException("unknown block type " + block + " in JaCoCo execution data");
+            }
+        }
+        return classes;
+    }
+
+    /** Reads a probe array (var-int length, then 8 probes per byte) and tells whether any probe was hit. */
+    private static boolean readAnyProbeHit(final DataInputStream in) throws IOException {
+        final int probes = readVarInt(in);
+        boolean hit = false;
+        for (int i = 0; i < (probes + 7) / 8; i++) {
+            hit |= in.readByte() != 0;
+        }
+        return hit;
+    }
+
+    private static int readVarInt(final DataInputStream in) throws IOException {
+        final int value = 0xFF & in.readByte();
+        return (value & 0x80) == 0 ? value : (value & 0x7F) | (readVarInt(in) << 7);
+    }
+}
@@ -0,0 +1,165 @@
+package com.workday.plugin.testrunner.execution;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.intellij.openapi.application.PathManager;
+
+import com.workday.plugin.testrunner.common.Locations;
+
+/**
+ * Which project classes each OMS test class used when it last ran with coverage collection on
+ * ({@link CoverageCollector}). Unlike PSI references, this also sees classes reached through reflection
+ * and configuration.
+ * <p>
+ * One map per project, since test and class names only mean something in their checkout. Kept in memory and
+ * in a gzipped text file per project in the IDE system directory, one "test&lt;TAB&gt;class class ..." line
+ * per test class; class names are shared between tests in memory.
+ *
+ * @author alexander.aizikivsky
+ * @since Oct-2026
+ */
+public final class CoverageImpactMap {
+
+    private static final String DIR_NAME = "oms-coverage-impact";
+
+    private static final Map<String, CoverageImpactMap> MAPS = new ConcurrentHashMap<>();
+
+    private final Path file;
+    private final Map<String, String> names = new HashMap<>();
+    private Map<String, Set<String>> usedByTest;
+
+    private CoverageImpactMap(final Path file) {
+        this.file = file;
+    }
+
+    /** The map of the project at the base path; read on first use. */
+    public static CoverageImpactMap forBasePath(final String basePath) {
+        return MAPS.computeIfAbsent(basePath, p -> {
+            final Path path = Path.of(p);
+            final String name = path.getFileName() == null ? "root" : path.getFileName().toString();
+            return new CoverageImpactMap(Path.of(PathManager.getSystemPath(), DIR_NAME,
+                name.replaceAll("[^A-Za-z0-9._-]", "_") + "-" + Integer.toHexString(p.hashCode()) + ".txt.gz"));
+        });
+    }
+
+    /** The map of the project the plugin currently works on ({@link Locations#getBasePath()}); null if none. */
+    @Nullable
+    static CoverageImpactMap current() {
+        final String basePath = Locations.getBasePath();
+        return basePath == null || basePath.isBlank() ? null : forBasePath(basePath);
+    }
+
+    /** Stores the classes the test used; with merge they are added to what was recorded before. */
+    synchronized void record(final String testClass, final Set<String> classes, final boolean merge) {
+        final Map<String, Set<String>> map = load();
+        final Set<String> used = merge ? map.getOrDefault(testClass, new HashSet<>()) : new HashSet<>();
+        classes.forEach(cls -> used.add(shared(cls)));
+        used.add(shared(testClass)); // a changed test class affects itself even if the agent excludes tests
+        map.put(shared(testClass), used);
+        save(map);
+    }
+
+    public synchronized boolean isEmpty() {
+        return load().isEmpty();
+    }
+
+    /**
+     * The tests to run for a change: those recorded as using one of the changed classes, plus the tests found
+     * through references that have no coverage recorded yet.
+     */
+    public synchronized List<String> select(final Collection<String> changedClasses,
+                                                   final Collection<String> referenceTests) {
+        final Map<String, Set<String>> map = load();
+        final Set<String> result = new TreeSet<>();
+        map.forEach((test, used) -> {
+            if (changedClasses.stream().anyMatch(used::contains)) {
+                result.add(test);
+            }
+        });
+        for (String test : referenceTests) {
+            if (!map.containsKey(test)) {
+                result.add(test);
+            }
+        }
+        return List.copyOf(result);
+    }
+
+    /** Number of test classes with coverage recorded. */
+    public synchronized int size() {
+        return load().size();
+    }
+
+    private String shared(final String name) {
+        return names.computeIfAbsent(name, n -> n);
+    }
+
+    private Map<String, Set<String>> load() {
+        if (usedByTest != null) {
+            return usedByTest;
+        }
+        usedByTest = new HashMap<>();
+        if (!Files.exists(file)) {
+            return usedByTest;
+        }
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(
+            new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                final int tab = line.indexOf('\t');
+                if (tab <= 0) {
+                    continue;
+                }
+                final Set<String> used = new HashSet<>();
+                for (String cls : line.substring(tab + 1).split(" ")) {
+                    if (!cls.isEmpty()) {
+                        used.add(shared(cls));
+                    }
+                }
+                usedByTest.put(shared(line.substring(0, tab)), used);
+            }
+        }
+        catch (IOException ignored) {
+            // a damaged file is replaced by the next recorded run
+        }
+        return usedByTest;
+    }
+
+    private void save(final Map<String, Set<String>> map) {
+        try {
+            Files.createDirectories(file.getParent());
+            final Path tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try (Writer out = new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(tmp)), StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, Set<String>> e : map.entrySet()) {
+                    out.write(e.getKey());
+                    out.write('\t');
+                    out.write(String.join(" ", e.getValue()));
+                    out.write('\n');
+                }
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (IOException ignored) {
+            // kept in memory; written again with the next recorded run
+        }
+    }
+}
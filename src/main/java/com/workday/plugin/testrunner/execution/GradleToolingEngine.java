@@ -0,0 +1,204 @@
+package com.workday.plugin.testrunner.execution;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.gradle.tooling.BuildCancelledException;
+import org.gradle.tooling.BuildException;
+import org.gradle.tooling.CancellationTokenSource;
+import org.gradle.tooling.Failure;
+import org.gradle.tooling.GradleConnectionException;
+import org.gradle.tooling.GradleConnector;
+import org.gradle.tooling.ProjectConnection;
+import org.gradle.tooling.events.OperationType;
+import org.gradle.tooling.events.ProgressEvent;
+import org.gradle.tooling.events.ProgressListener;
+import org.gradle.tooling.events.test.JvmTestKind;
+import org.gradle.tooling.events.test.JvmTestOperationDescriptor;
+import org.gradle.tooling.events.test.TestFailureResult;
+import org.gradle.tooling.events.test.TestFinishEvent;
+import org.gradle.tooling.events.test.TestOperationResult;
+import org.gradle.tooling.events.test.TestSkippedResult;
+import org.gradle.tooling.events.test.TestStartEvent;
+
+import com.workday.plugin.testrunner.ui.UiContentDescriptor;
+
+/**
+ * Runs Gradle test tasks through the Gradle Tooling API (bundled with the IDE's Gradle plugin) instead of
+ * starting ./gradlew for every run.
+ * <p>
+ * One {@link ProjectConnection} is kept per project directory, so runs after the first reuse the warm
+ * daemon. Test progress events are turned into ##OMS| events and fed through {@link OmsEventParser}, so
+ * the tree is built while the tests run and no TEST-*.xml has to be read afterwards. Stop cancels the
+ * build through a {@link CancellationTokenSource}.
+ *
+ * @author alexander.aizikivsky
+ * @since Oct-2026
+ */
+final class GradleToolingEngine {
+
+    private static final GradleToolingEngine INSTANCE = new GradleToolingEngine();
+
+    /** How a build ended; streamed is true if the tree was built from test events. */
+    record Outcome(int exitCode, boolean cancelled, boolean streamed, boolean failures) {
+    }
+
+    private final Map<String, ProjectConnection> connections = new ConcurrentHashMap<>();
+
+    private GradleToolingEngine() {
+    }
+
+    static GradleToolingEngine getInstance() {
+        return INSTANCE;
+    }
+
+    /** Runs the task with the arguments in the project directory and blocks until the build has finished. */
+    Outcome runTests(final String basePath, final String task, final List<String> arguments,
+                     final UiContentDescriptor.UiProcessHandler handler) {
+        final ProjectConnection connection = connection(basePath);
+        final CancellationTokenSource cancel = GradleConnector.newCancellationTokenSource();
+        final OmsEventParser parser = new OmsEventParser(handler);
+        handler.setCancelHandler(cancel::cancel);
+        int exitCode = 0;
+        boolean cancelled = false;
+        try (LineOutput out = new LineOutput(handler); LineOutput err = new LineOutput(handler)) {
+            connection.newBuild()
+                .forTasks(task)
+                .withArguments(arguments)
+                .setStandardOutput(out)
+                .setStandardError(err)
+                .withCancellationToken(cancel.token())
+                .addProgressListener(new TestEvents(parser), OperationType.TEST)
+                .run();
+        }
+        catch (BuildCancelledException e) {
+            cancelled = true;
+        }
+        catch (BuildException e) {
+            // failing tests fail the build; the details are already on the console
+            exitCode = 1;
+        }
+        catch (GradleConnectionException e) {
+            // the daemon or the connection is gone; connect again on the next run
+            close(basePath);
+            throw e;
+        }
+        finally {
+            handler.setCancelHandler(null);
+            parser.finish();
+        }
+        return new Outcome(exitCode, cancelled, parser.hasEvents(), parser.hasFailures());
+    }
+
+    void closeAll() {
+        connections.keySet().forEach(this::close);
+    }
+
+    /** Closes the connection to the project's Gradle build, if any; the next run connects again. */
+    void close(final String basePath) {
+        final ProjectConnection c = connections.remove(basePath);
+        if (c != null) {
+            c.close();
+        }
+    }
+
+    private ProjectConnection connection(final String basePath) {
+        return connections.computeIfAbsent(basePath,
+            dir -> GradleConnector.newConnector().forProjectDirectory(new File(dir)).connect());
+    }
+
+    /** Translates Tooling API test events to the events tc-listener.gradle prints, passed as fields. */
+    private static final class TestEvents implements ProgressListener {
+
+        private final OmsEventParser parser;
+
+        TestEvents(final OmsEventParser parser) {
+            this.parser = parser;
+        }
+
+        @Override
+        public void statusChanged(final ProgressEvent event) {
+            if (!(event.getDescriptor() instanceof JvmTestOperationDescriptor test)) {
+                return;
+            }
+            final boolean suite = test.getJvmTestKind() == JvmTestKind.SUITE;
+            if (suite && test.getClassName() == null) {
+                return; // Gradle's own "Gradle Test Run" / "Gradle Test Executor" suites
+            }
+            final String className = test.getClassName();
+            final String displayName = test.getDisplayName();
+            if (event instanceof TestStartEvent) {
+                if (suite) {
+                    parser.event("SUITE_START", className, displayName);
+                }
+                else {
+                    parser.event("TEST_START", className, displayName, test.getMethodName());
+                }
+                return;
+            }
+            if (!(event instanceof TestFinishEvent finish)) {
+                return;
+            }
+            if (suite) {
+                parser.event("SUITE_END", className, displayName);
+                return;
+            }
+            final TestOperationResult result = finish.getResult();
+            final String duration = String.valueOf(result.getEndTime() - result.getStartTime());
+            if (result instanceof TestFailureResult failed) {
+                final Failure first = failed.getFailures().isEmpty() ? null : failed.getFailures().get(0);
+                final String message = first == null || first.getMessage() == null ? "Test failed" : first.getMessage();
+                parser.event("TEST_FAIL", className, displayName, test.getMethodName(), duration, message.replace("\r", ""));
+                if (first != null && first.getDescription() != null) {
+                    for (String line : first.getDescription().split("\n")) {
+                        parser.event("STACK", line);
+                    }
+                }
+            }
+            else if (result instanceof TestSkippedResult) {
+                parser.event("TEST_SKIP", className, displayName, test.getMethodName(), duration);
+            }
+            else {
+                parser.event("TEST_PASS", className, displayName, test.getMethodName(), duration);
+            }
+        }
+    }
+
+    /** Build output to the console, one log call per line. */
+    private static final class LineOutput extends OutputStream {
+
+        private final UiContentDescriptor.UiProcessHandler handler;
+        private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+
+        LineOutput(final UiContentDescriptor.UiProcessHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public synchronized void write(final int b) {
+            if (b == '\n') {
+                flushLine();
+            }
+            else if (b != '\r') {
+                line.write(b);
+            }
+        }
+
+        @Override
+        public synchronized void close() {
+            if (line.size() > 0) {
+                flushLine();
+            }
+        }
+
+        private void flushLine() {
+            handler.log(line.toString(StandardCharsets.UTF_8));
+            line.reset();
+        }
+    }
+}
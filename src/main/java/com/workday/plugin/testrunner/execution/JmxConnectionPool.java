@@ -0,0 +1,301 @@
+package com.workday.plugin.testrunner.execution;
+
+import static com.workday.plugin.testrunner.common.Locations.LOCALHOST;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.InstanceNotFoundException;
+import javax.management.JMX;
+import javax.management.MBeanServerConnection;
+import javax.management.MalformedObjectNameException;
+import javax.management.NotificationBroadcaster;
+import javax.management.NotificationFilter;
+import javax.management.NotificationListener;
+import javax.management.ObjectName;
+import javax.management.remote.JMXConnectionNotification;
+import javax.management.remote.JMXConnector;
+import javax.management.remote.JMXConnectorFactory;
+import javax.management.remote.JMXServiceURL;
+
+/**
+ * Keeps JMX connections to OMS alive across test runs, one per host:port.
+ * Every connection goes to localhost:port, which is either the local ORS or the SSH tunnel of an SUV
+ * host ({@link SshTunnelRegistry}); the host names the OMS the connection belongs to, so tunnels of
+ * different hosts that take turns on the same local port never share a pooled connection.
+ * A pooled connection is health-checked before it is handed out and transparently
+ * re-established when the RMI link has failed. Connections that were not used for
+ * {@link #IDLE_TIMEOUT_MS} are closed by a background evictor.
+ *
+ * @author alexander.aizikivsky
+ * @since Oct-2026
+ */
+public final class JmxConnectionPool {
+
+    static final String JUNIT_LISTENER_MBEAN = "com.workday.oms:name=JunitTestListener";
+
+    private static final long IDLE_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(10);
+    // A freshly started port-forward may need a moment before it accepts connections
+    private static final long CONNECT_RETRY_WINDOW_MS = 10_000;
+
+    private static final JmxConnectionPool INSTANCE = new JmxConnectionPool();
+
+    private final Map<String, PooledConnection> connections = new ConcurrentHashMap<>();
+    private final Map<String, Object> locks = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+        final Thread t = new Thread(r, "oms-jmx-pool-evictor");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private JmxConnectionPool() {
+        evictor.scheduleWithFixedDelay(this::evictIdle, 1, 1, TimeUnit.MINUTES);
+    }
+
+    public static JmxConnectionPool getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns a live JunitTestListener proxy for host:port, reusing the pooled connection
+     * when it passes the health check and reconnecting otherwise.
+     * Every acquire must be paired with {@link #release(String, int)}.
+     */
+    public JmxTestExecutor.JUnitTestingMXBean acquire(final String host, final int port)
+        throws IOException {
+        final String key = key(host, port);
+        synchronized (lockFor(key)) {
+            final PooledConnection existing = connections.get(key);
+            if (existing != null) {
+                if (existing.isHealthy()) {
+                    existing.touch();
+                    existing.inUse++;
+                    return existing.bean;
+                }
+                connections.remove(key);
+                existing.close();
+            }
+            final PooledConnection created = connectWithRetry(host, port);
+            created.inUse++;
+            connections.put(key, created);
+            return created.bean;
+        }
+    }
+
+    /** Marks the end of a call started with {@link #acquire(String, int)}; the idle clock restarts here. */
+    public void release(final String host, final int port) {
+        final String key = key(host, port);
+        synchronized (lockFor(key)) {
+            final PooledConnection c = connections.get(key);
+            if (c != null) {
+                c.inUse = Math.max(0, c.inUse - 1);
+                c.touch();
+            }
+        }
+    }
+
+    /** Returns true if a healthy pooled connection to host:port exists (does not connect). */
+    public boolean isConnected(final String host, final int port) {
+        final PooledConnection c = connections.get(key(host, port));
+        return c != null && c.isHealthy();
+    }
+
+    /**
+     * Subscribes to the notifications of the JunitTestListener MBean that pass the filter, on the pooled
+     * connection. Returns false (without subscribing) if this OMS build does not emit notifications.
+     */
+    public boolean addListener(final String host, final int port, final NotificationListener listener,
+                               final NotificationFilter filter)
+        throws IOException {
+        final PooledConnection c = connections.get(key(host, port));
+        if (c == null) {
+            return false;
+        }
+        try {
+            if (!c.mbeanConn.isInstanceOf(c.mbeanName, NotificationBroadcaster.class.getName())) {
+                return false;
+            }
+            c.mbeanConn.addNotificationListener(c.mbeanName, listener, filter, null);
+            return true;
+        }
+        catch (InstanceNotFoundException e) {
+            return false;
+        }
+    }
+
+    public void removeListener(final String host, final int port, final NotificationListener listener) {
+        final PooledConnection c = connections.get(key(host, port));
+        if (c == null) {
+            return;
+        }
+        try {
+            c.mbeanConn.removeNotificationListener(c.mbeanName, listener);
+        }
+        catch (Exception ignored) {
+            // connection or registration already gone
+        }
+    }
+
+    /**
+     * A proxy for another MBean on the pooled connection to host:port, or null if there is no pooled
+     * connection or the MBean is not registered (e.g. an optional JaCoCo agent).
+     */
+    public <T> T findMBean(final String host, final int port, final String objectName, final Class<T> type)
+        throws IOException {
+        final PooledConnection c = connections.get(key(host, port));
+        if (c == null) {
+            return null;
+        }
+        final ObjectName name;
+        try {
+            name = new ObjectName(objectName);
+        }
+        catch (MalformedObjectNameException e) {
+            throw new IllegalArgumentException(e);
+        }
+        return c.mbeanConn.isRegistered(name) ? JMX.newMBeanProxy(c.mbeanConn, name, type) : null;
+    }
+
+    /** True while a run holds the connection to host:port (between acquire and release). */
+    public boolean isInUse(final String host, final int port) {
+        final PooledConnection c = connections.get(key(host, port));
+        return c != null && c.inUse > 0;
+    }
+
+    /** Drops the pooled connection for host:port, e.g. after an RMI failure during a call. */
+    public void invalidate(final String host, final int port) {
+        final PooledConnection c = connections.remove(key(host, port));
+        if (c != null) {
+            c.close();
+        }
+    }
+
+    public void closeAll() {
+        connections.values().forEach(PooledConnection::close);
+        connections.clear();
+    }
+
+    /** True if the throwable (or one of its causes) is a transport-level failure. */
+    static boolean isConnectionFailure(final Throwable t) {
+        for (Throwable c = t; c != null; c = c.getCause()) {
+            if (c instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private PooledConnection connectWithRetry(final String host, final int port) throws IOException {
+        final JMXServiceURL url = new JMXServiceURL(
+            "service:jmx:rmi:///jndi/rmi://" + LOCALHOST + ":" + port + "/jmxrmi");
+        final long deadline = System.currentTimeMillis() + CONNECT_RETRY_WINDOW_MS;
+        long backoff = 100;
+        while (true) {
+            try {
+                return new PooledConnection(JMXConnectorFactory.connect(url, null));
+            }
+            catch (IOException e) {
+                if (System.currentTimeMillis() + backoff > deadline) {
+                    throw e;
+                }
+            }
+            try {
+                Thread.sleep(backoff);
+            }
+            catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while connecting to " + url, ie);
+            }
+            backoff = Math.min(backoff * 2, 1000);
+        }
+    }
+
+    private void evictIdle() {
+        final long cutoff = System.currentTimeMillis() - IDLE_TIMEOUT_MS;
+        for (Map.Entry<String, PooledConnection> e : connections.entrySet()) {
+            synchronized (lockFor(e.getKey())) {
+                final PooledConnection c = e.getValue();
+                // never evict a connection that is in the middle of a (possibly hour-long) test run
+                if (c.inUse == 0 && (c.lastUsed < cutoff || c.failed)) {
+                    connections.remove(e.getKey(), c);
+                    c.close();
+                }
+            }
+        }
+    }
+
+    private Object lockFor(final String key) {
+        return locks.computeIfAbsent(key, k -> new Object());
+    }
+
+    private static String key(final String host, final int port) {
+        return host + ":" + port;
+    }
+
+    private static final class PooledConnection {
+
+        private final JMXConnector connector;
+        private final MBeanServerConnection mbeanConn;
+        private final ObjectName mbeanName;
+        private final JmxTestExecutor.JUnitTestingMXBean bean;
+        private volatile long lastUsed = System.currentTimeMillis();
+        private volatile boolean failed;
+        private int inUse; // guarded by the pool's per-key lock
+
+        PooledConnection(final JMXConnector connector) throws IOException {
+            this.connector = connector;
+            try {
+                this.mbeanName = new ObjectName(JUNIT_LISTENER_MBEAN);
+            }
+            catch (MalformedObjectNameException e) {
+                throw new IllegalStateException(e);
+            }
+            try {
+                this.mbeanConn = connector.getMBeanServerConnection();
+            }
+            catch (IOException e) {
+                close();
+                throw e;
+            }
+            this.bean = JMX.newMBeanProxy(mbeanConn, mbeanName, JmxTestExecutor.JUnitTestingMXBean.class);
+            // RMI reports a broken link asynchronously; mark the entry so the next acquire reconnects
+            connector.addConnectionNotificationListener((n, handback) -> {
+                if (JMXConnectionNotification.FAILED.equals(n.getType())
+                    || JMXConnectionNotification.CLOSED.equals(n.getType())) {
+                    failed = true;
+                }
+            }, null, null);
+        }
+
+        boolean isHealthy() {
+            if (failed) {
+                return false;
+            }
+            try {
+                // cheap round trip that also verifies the OMS listener is still registered
+                return mbeanConn.isRegistered(mbeanName);
+            }
+            catch (IOException e) {
+                failed = true;
+                return false;
+            }
+        }
+
+        void touch() {
+            lastUsed = System.currentTimeMillis();
+        }
+
+        void close() {
+            try {
+                connector.close();
+            }
+            catch (IOException ignored) {
+                // connection is being discarded anyway
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.workday.plugin.testrunner.execution;
+
+import javax.management.Notification;
+import javax.management.NotificationFilterSupport;
+import javax.management.NotificationListener;
+
+import com.workday.plugin.testrunner.ui.UiContentDescriptor;
+
+/**
+ * Live test events for one JMX run.
+ * Listens to notifications of the JunitTestListener MBean while executeTestSuite is running and
+ * feeds them through {@link OmsEventParser}, so tests appear in the tree as they start and finish
+ * instead of after the run. Only notifications of type {@value #EVENT_TYPE} are delivered (filtered on
+ * the server); each carries one ##OMS| event line in its user data or message. Anything else the
+ * MBean emits is ignored, so it cannot pass for a live tree.
+ * <p>
+ * If OMS does not emit notifications, nothing is received and the caller renders the XML result file
+ * as before.
+ *
+ * @author alexander.aizikivsky
+ * @since Oct-2026
+ */
+final class JmxEventStream implements NotificationListener {
+
+    static final String EVENT_TYPE = "oms.test.event";
+    private static final String PREFIX = "##OMS|";
+    // RMI fetches notifications asynchronously; the last ones may arrive just after executeTestSuite returns
+    private static final long QUIET_MS = 300;
+    private static final long MAX_DRAIN_MS = 2_000;
+
+    private final String host;
+    private final int port;
+    private final OmsEventParser parser;
+    private boolean subscribed;
+    private volatile long lastEventAt;
+
+    private JmxEventStream(final String host, final int port, final UiContentDescriptor.UiProcessHandler handler) {
+        this.host = host;
+        this.port = port;
+        this.parser = new OmsEventParser(handler);
+    }
+
+    /** Subscribes on the pooled connection to host:port; call after acquire and before executeTestSuite. */
+    static JmxEventStream open(final String host, final int port, final UiContentDescriptor.UiProcessHandler handler) {
+        final JmxEventStream stream = new JmxEventStream(host, port, handler);
+        try {
+            final NotificationFilterSupport filter = new NotificationFilterSupport();
+            filter.enableType(EVENT_TYPE);
+            stream.subscribed = JmxConnectionPool.getInstance().addListener(host, port, stream, filter);
+        }
+        catch (Exception e) {
+            // no live events: the XML result file is rendered at the end instead
+            stream.subscribed = false;
+        }
+        return stream;
+    }
+
+    @Override
+    public synchronized void handleNotification(final Notification notification, final Object handback) {
+        if (!EVENT_TYPE.equals(notification.getType())) {
+            return;
+        }
+        final String event = notification.getUserData() instanceof String s ? s : notification.getMessage();
+        if (event == null || !event.startsWith(PREFIX)) {
+            return;
+        }
+        lastEventAt = System.currentTimeMillis();
+        parser.process(event);
+    }
+
+    /** Unsubscribes and flushes a pending failure; must be called once executeTestSuite has returned. */
+    void close() {
+        if (lastEventAt > 0) {
+            drain();
+        }
+        synchronized (this) {
+            unsubscribe();
+            parser.finish();
+        }
+    }
+
+    private void drain() {
+        final long deadline = System.currentTimeMillis() + MAX_DRAIN_MS;
+        while (System.currentTimeMillis() - lastEventAt < QUIET_MS && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(50);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void unsubscribe() {
+        if (subscribed) {
+            JmxConnectionPool.getInstance().removeListener(host, port, this);
+            subscribed = false;
+        }
+    }
+
+    /** True if the tree was built from live events, so the XML result file need not be rendered. */
+    synchronized boolean hasEvents() {
+        return parser.hasEvents();
+    }
+
+    synchronized boolean hasFailures() {
+        return parser.hasFailures();
+    }
+}
@@ -1,24 +1,18 @@
 package com.workday.plugin.testrunner.execution;
 
 import static java.lang.String.join;
-import static java.lang.Thread.sleep;
 
 import java.io.IOException;
 
-import javax.management.JMX;
-import javax.management.MBeanServerConnection;
-import javax.management.MalformedObjectNameException;
-import javax.management.ObjectName;
-import javax.management.remote.JMXConnector;
-import javax.management.remote.JMXConnectorFactory;
-import javax.management.remote.JMXServiceURL;
-
 import com.workday.plugin.testrunner.ui.UiContentDescriptor;
 
 /**
  * JMX test executor.
  * JmxTestExecutor supposed to work always, but sometimes it fails to create XML log files.
  * To deal with this, we use a BypassTestExecutor that runs the JMX command directly on the remote server
+ * Connections come from {@link JmxConnectionPool}, so repeated runs skip the RMI handshake.
+ * The port forward and the pooled connection are held from {@link #connect()} (or the start of
+ * {@link #runTestOms}) until the suite returns, then let go with {@link #release()}.
  *
  * @author alexander.aizikivsky
  * @since Jun-2025
@@ -29,6 +23,13 @@ public class JmxTestExecutor {
     private final int jmxPort;
     private final UiContentDescriptor.UiProcessHandler handler;
 
+    private int localPort = -1;
+    private JUnitTestingMXBean heldBean;
+    private volatile JUnitTestingMXBean runningBean;
+    private volatile boolean cancelled;
+    private JmxEventStream events;
+    private boolean liveEvents = true;
+
     public JmxTestExecutor(final RunStrategy strategy,
                            final int jmxPort,
                            final UiContentDescriptor.UiProcessHandler handler) {
@@ -37,34 +38,142 @@ public class JmxTestExecutor {
         this.handler = handler;
     }
 
-    public String runTestOms(final String[] jmxParams)
-        throws IOException, MalformedObjectNameException {
-        strategy.maybeStartPortForwarding(jmxPort);
+    /**
+     * Opens the port forward (if the strategy needs one) and verifies that the MBean answers.
+     * Returns false instead of throwing so bypass strategies can fall back to jmxterm.
+     */
+    public boolean connect() {
+        try {
+            hold();
+            return true;
+        }
+        catch (IOException e) {
+            log("Native JMX not available for " + strategy.getHost() + " (" + e.getMessage() + "), using jmxterm");
+            return false;
+        }
+    }
+
+    /** Runs the suite and returns OMS's answer; null if the run was cancelled, also before the suite started. */
+    public String runTestOms(final String[] jmxParams) throws IOException {
+        return runTestOms(jmxParams, strategy.getJmxResultFolder());
+    }
+
+    /** Like {@link #runTestOms(String[])}, writing the result files to toDir on the OMS side. */
+    public String runTestOms(final String[] jmxParams, final String toDir) throws IOException {
+        if (cancelled) {
+            release();
+            return null;
+        }
+        // No fixed sleep for the port forward: the tunnel is probed when opened and the pool retries the connect
+        final JUnitTestingMXBean bean = hold();
+        final String host = strategy.getHost();
+        final JmxConnectionPool pool = JmxConnectionPool.getInstance();
+        runningBean = bean;
+        if (cancelled) {
+            // cancelled while connecting: cancel() may not have seen the bean, so the suite must not start
+            runningBean = null;
+            release();
+            return null;
+        }
+        events = liveEvents ? JmxEventStream.open(host, localPort, handler) : null;
+        final CoverageCollector coverage = CoverageCollector.start(host, localPort, jmxParams, handler);
         try {
-            sleep(2000); // wait for port forwarding to be established
+            if (cancelled) {
+                return null;
+            }
+            final String result = runCommand(bean, jmxParams, toDir);
+            if (coverage != null && !cancelled) {
+                coverage.finish();
+            }
+            return result;
         }
-        catch (InterruptedException e) {
-            throw new RuntimeException(e);
+        catch (RuntimeException e) {
+            if (JmxConnectionPool.isConnectionFailure(e)) {
+                pool.invalidate(host, localPort);
+            }
+            if (cancelled) {
+                return null;
+            }
+            throw e;
         }
-        String hostPort = String.format("localhost:%d", jmxPort);
-        JMXServiceURL url = new JMXServiceURL("service:jmx:rmi:///jndi/rmi://" + hostPort + "/jmxrmi");
-        try (JMXConnector connector = JMXConnectorFactory.connect(url, null)) {
-            JUnitTestingMXBean bean = getJUnitTestingMXBean(connector);
-            return runCommand(bean, jmxParams);
+        finally {
+            if (events != null) {
+                events.close();
+            }
+            runningBean = null;
+            release();
         }
     }
 
-    private static JUnitTestingMXBean getJUnitTestingMXBean(final JMXConnector jmxConnector)
-        throws IOException, MalformedObjectNameException {
-        final MBeanServerConnection mbeanConn = jmxConnector.getMBeanServerConnection();
-        final ObjectName mbeanName = new ObjectName("com.workday.oms:name=JunitTestListener");
-        return JMX.newMBeanProxy(mbeanConn, mbeanName, JUnitTestingMXBean.class);
+    /** Lets go of the port forward and pooled connection held since {@link #connect()}; safe to call twice. */
+    public void release() {
+        if (heldBean != null) {
+            heldBean = null;
+            JmxConnectionPool.getInstance().release(strategy.getHost(), localPort);
+        }
+        if (localPort >= 0) {
+            strategy.releasePortForwarding(jmxPort);
+            localPort = -1;
+        }
     }
 
-    private String runCommand(final JUnitTestingMXBean mxBean, final String[] args) {
-        log("Running tests with parameters: " + join(", ", args) + ", " + strategy.getJmxResultFolder());
-        String result = mxBean.executeTestSuite(args[0], args[1], args[2], args[3], args[4],
-            strategy.getJmxResultFolder());
+    /** Opens the forward and acquires the pooled connection unless they are held already. */
+    private JUnitTestingMXBean hold() throws IOException {
+        if (heldBean != null) {
+            return heldBean;
+        }
+        if (localPort < 0) {
+            localPort = strategy.maybeStartPortForwarding(jmxPort);
+        }
+        try {
+            heldBean = JmxConnectionPool.getInstance().acquire(strategy.getHost(), localPort);
+        }
+        catch (IOException e) {
+            release();
+            throw e;
+        }
+        return heldBean;
+    }
+
+    /** True if the test tree was already built from live JMX notifications during the run. */
+    public boolean hasStreamedResults() {
+        return events != null && events.hasEvents();
+    }
+
+    public boolean hasStreamedFailures() {
+        return events != null && events.hasFailures();
+    }
+
+    /** Off for runs whose results are merged with others into one tree (see TestRunner.runForResults). */
+    public void setLiveEvents(final boolean liveEvents) {
+        this.liveEvents = liveEvents;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Sends cancelRunningTest while executeTestSuite is still blocked on another thread; returns once OMS
+     * has answered, so the caller knows the host is free.
+     */
+    public void cancel() {
+        cancelled = true;
+        final JUnitTestingMXBean bean = runningBean;
+        if (bean == null) {
+            return;
+        }
+        try {
+            bean.cancelRunningTest();
+        }
+        catch (Exception ignored) {
+            // best-effort: if this fails the OMS lock will remain until the next test run clears it
+        }
+    }
+
+    private String runCommand(final JUnitTestingMXBean mxBean, final String[] args, final String toDir) {
+        log("Running tests with parameters: " + join(", ", args) + ", " + toDir);
+        String result = mxBean.executeTestSuite(args[0], args[1], args[2], args[3], args[4], toDir);
         log(result);
         return result;
     }
@@ -81,5 +190,8 @@ public class JmxTestExecutor {
                                 String testConcurrent,
                                 String testCategory,
                                 String toDir);
+
+        /** Releases the OMS "another test is running" lock held by an in-flight executeTestSuite. */
+        void cancelRunningTest();
     }
 }
\ No newline at end of file
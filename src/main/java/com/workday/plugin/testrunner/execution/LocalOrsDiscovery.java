@@ -0,0 +1,163 @@
+package com.workday.plugin.testrunner.execution;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.workday.plugin.testrunner.common.ShellEnvironment;
+
+/**
+ * Finds the local ORS JVM (the process started with {@code -Dwd.service.type=}) and reads its JMX port,
+ * catalina.base and HTTP connector port without running a shell.
+ * <p>
+ * Processes are scanned with {@link ProcessHandle#allProcesses()}. If the OS does not expose command lines
+ * that way, one {@code ps} call is made and its output is parsed here. The result is cached for the PID
+ * and dropped when that process exits, so later runs cost no process spawn at all.
+ *
+ * @author alexander.aizikivsky
+ * @since Oct-2026
+ */
+final class LocalOrsDiscovery {
+
+    private static final String ORS_MARKER = "wd.service.type=";
+    private static final Pattern JMX_PORT = Pattern.compile("com\\.sun\\.management\\.jmxremote\\.port=(\\d+)");
+    private static final Pattern CATALINA_BASE = Pattern.compile("catalina\\.base=([^\\s\"']+)");
+
+    private static final LocalOrsDiscovery INSTANCE = new LocalOrsDiscovery();
+
+    private volatile OrsProcess cached;
+
+    private LocalOrsDiscovery() {
+    }
+
+    static LocalOrsDiscovery getInstance() {
+        return INSTANCE;
+    }
+
+    /** The running local ORS, from the cache while its process is alive. */
+    OrsProcess find() {
+        final OrsProcess c = cached;
+        if (c != null && c.handle.isAlive()) {
+            return c;
+        }
+        final OrsProcess found = scan();
+        cached = found;
+        // drop the entry as soon as ORS exits, so a restarted ORS (new ports) is found again
+        found.handle.onExit().thenRun(() -> {
+            if (cached == found) {
+                cached = null;
+            }
+        });
+        return found;
+    }
+
+    private static OrsProcess scan() {
+        // the JVM itself, not a launcher script whose command line mentions the same options
+        final Optional<OrsProcess> direct = ProcessHandle.allProcesses()
+            .filter(p -> p.info().command().map(c -> c.endsWith("/java")).orElse(false))
+            .map(p -> {
+                final String cmd = p.info().commandLine().orElse("");
+                return cmd.contains(ORS_MARKER) ? parse(p, cmd) : null;
+            })
+            .filter(Objects::nonNull)
+            .findFirst();
+        return direct.orElseGet(LocalOrsDiscovery::scanWithPs);
+    }
+
+    /** Fallback for systems where ProcessHandle.Info hides the command lines of other processes. */
+    private static OrsProcess scanWithPs() {
+        try {
+            final Process ps = ShellEnvironment.getInstance()
+                .processBuilder(List.of("ps", "-axww", "-o", "pid=,command="))
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+            try (BufferedReader in = new BufferedReader(new InputStreamReader(ps.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = in.readLine()) != null) {
+                    line = line.trim();
+                    final int sp = line.indexOf(' ');
+                    if (sp > 0 && line.contains(ORS_MARKER) && line.contains("java")) {
+                        final long pid = Long.parseLong(line.substring(0, sp));
+                        final Optional<ProcessHandle> handle = ProcessHandle.of(pid);
+                        if (handle.isPresent()) {
+                            return parse(handle.get(), line.substring(sp + 1));
+                        }
+                    }
+                }
+            }
+            finally {
+                ps.destroy();
+            }
+        }
+        catch (IOException | NumberFormatException e) {
+            throw new RuntimeException("Could not list local processes: " + e.getMessage(), e);
+        }
+        throw new RuntimeException("Could not find local ORS process — is ORS running?");
+    }
+
+    private static OrsProcess parse(final ProcessHandle handle, final String commandLine) {
+        final Matcher port = JMX_PORT.matcher(commandLine);
+        final Matcher base = CATALINA_BASE.matcher(commandLine);
+        return new OrsProcess(handle,
+            port.find() ? Integer.parseInt(port.group(1)) : -1,
+            base.find() ? base.group(1) : null);
+    }
+
+    static final class OrsProcess {
+
+        private final ProcessHandle handle;
+        private final int jmxPort;
+        private final String catalinaBase;
+        private volatile int httpPort = -1;
+
+        private OrsProcess(final ProcessHandle handle, final int jmxPort, final String catalinaBase) {
+            this.handle = handle;
+            this.jmxPort = jmxPort;
+            this.catalinaBase = catalinaBase;
+        }
+
+        long pid() {
+            return handle.pid();
+        }
+
+        int jmxPort() {
+            if (jmxPort < 0) {
+                throw new RuntimeException("Could not find local ORS JMX port — is ORS running with JMX enabled?");
+            }
+            return jmxPort;
+        }
+
+        /** wd.connector.port from catalina.base/conf/catalina.properties, read once per process. */
+        int httpPort() {
+            if (httpPort < 0) {
+                if (catalinaBase == null) {
+                    throw new RuntimeException("Could not find catalina.base of the local ORS process");
+                }
+                final Path file = Path.of(catalinaBase, "conf", "catalina.properties");
+                final Properties props = new Properties();
+                try (InputStream in = Files.newInputStream(file)) {
+                    props.load(in);
+                }
+                catch (IOException e) {
+                    throw new RuntimeException("Could not read " + file + ": " + e.getMessage(), e);
+                }
+                final String port = props.getProperty("wd.connector.port", "").trim();
+                if (port.isEmpty()) {
+                    throw new RuntimeException("Could not find wd.connector.port in " + file);
+                }
+                httpPort = Integer.parseInt(port);
+            }
+            return httpPort;
+        }
+    }
+}
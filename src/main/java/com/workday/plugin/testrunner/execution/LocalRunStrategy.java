@@ -2,15 +2,13 @@ package com.workday.plugin.testrunner.execution;
 
 import static com.workday.plugin.testrunner.common.Locations.LOCALHOST;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.InputStreamReader;
 import java.nio.file.Files;
-import java.nio.file.Path;
 
 import org.jetbrains.annotations.NotNull;
 
 import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.util.io.FileUtil;
 import com.workday.plugin.testrunner.common.SshProbe;
 import com.workday.plugin.testrunner.ui.TestResultPresenter;
 import com.workday.plugin.testrunner.ui.UiContentDescriptor;
@@ -25,30 +23,8 @@ import com.workday.plugin.testrunner.ui.UiContentDescriptor;
 public class LocalRunStrategy
         implements RunStrategy {
 
-    private static final String JMX_CLIENT_PATH = "/tmp/OmsJmxClient.java";
     private static final String JMX_RESULT_DIR  = "/tmp/oms-jmx-testout";
 
-    // Inline JMX client — same approach as run-jmx-test.sh.
-    // Uses Java 11+ single-file source launch (no javac needed).
-    private static final String JMX_CLIENT_SOURCE =
-        "import javax.management.*;\n" +
-        "import javax.management.remote.*;\n" +
-        "public class OmsJmxClient {\n" +
-        "    public static void main(String[] args) throws Exception {\n" +
-        "        String port=args[0],method=args[1],clazz=args[2],pkg=args[3],concurrent=args[4],category=args[5],outDir=args[6];\n" +
-        "        JMXServiceURL url=new JMXServiceURL(\"service:jmx:rmi:///jndi/rmi://localhost:\"+port+\"/jmxrmi\");\n" +
-        "        try(JMXConnector c=JMXConnectorFactory.connect(url,null)){\n" +
-        "            MBeanServerConnection conn=c.getMBeanServerConnection();\n" +
-        "            ObjectName bean=new ObjectName(\"com.workday.oms:name=JunitTestListener\");\n" +
-        "            Object result=conn.invoke(bean,\"executeTestSuite\",\n" +
-        "                new Object[]{method,clazz,pkg,concurrent,category,outDir},\n" +
-        "                new String[]{\"java.lang.String\",\"java.lang.String\",\"java.lang.String\",\n" +
-        "                             \"java.lang.String\",\"java.lang.String\",\"java.lang.String\"});\n" +
-        "            System.out.println(result);\n" +
-        "        }\n" +
-        "    }\n" +
-        "}\n";
-
     private final OSCommands osCommands;
     private final String localResultFile;
     private final String testResultsFolderLocal;
@@ -83,11 +59,8 @@ public class LocalRunStrategy
     @Override
     public void verifyOms() {
         int httpPort = osCommands.getLocalOrsHttpPort();
-        String url = "http://localhost:" + httpPort + "/ors/-/tenantoperation/-status";
-        String output = osCommands.executeLocalCommand("curl -sf --max-time 5 " + url).trim();
-        if (!"Ready".equals(output)) {
-            throw new RuntimeException("ORS tenant is not ready at " + url + " — got: " + output);
-        }
+        final OrsReadinessService readiness = OrsReadinessService.getInstance();
+        readiness.awaitReady(LOCALHOST + ":" + httpPort, readiness.localProbe(httpPort), processHandler);
         log("ORS tenant ready (port " + httpPort + ")");
     }
 
@@ -101,8 +74,9 @@ public class LocalRunStrategy
     }
 
     @Override
-    public void maybeStartPortForwarding(final int jmxPort) {
+    public int maybeStartPortForwarding(final int jmxPort) {
         // no-op for local
+        return jmxPort;
     }
 
     @Override
@@ -122,49 +96,51 @@ public class LocalRunStrategy
     }
 
     /**
-     * Runs the test by spawning a lightweight Java subprocess that calls the OMS JMX MBean
-     * directly — same approach as run-jmx-test.sh, with no Gradle overhead.
-     * Results are written to {@value JMX_RESULT_DIR} and parsed via TestResultPresenter.
+     * Runs the test by calling the OMS JMX MBean directly from the plugin JVM on a background
+     * thread, through {@link JmxTestExecutor} like every other native JMX run (pooled connection, live
+     * events, coverage, Stop) — no client JVM, compiler or shell is started.
+     * Tests are shown live if OMS emits JMX notifications (see {@link JmxEventStream}); otherwise
+     * results are written to {@value JMX_RESULT_DIR} and parsed via TestResultPresenter.
      */
     public void runJmxTest(final String[] jmxParams) {
         ApplicationManager.getApplication().executeOnPooledThread(() -> {
+            JmxTestExecutor executor = null;
             try {
-                int port = osCommands.getLocalOmsJmxPort();
-                processHandler.log("Local OMS JMX port: " + port);
-
-                Files.writeString(Path.of(JMX_CLIENT_PATH), JMX_CLIENT_SOURCE);
-
-                // Use IntelliJ's own JVM — guaranteed Java 17, always on PATH
-                final String javaExe = System.getProperty("java.home") + "/bin/java";
-
-                final String cmd = String.format(
-                    "rm -rf '%s' && mkdir -p '%s' && '%s' '%s' %d '%s' '%s' '%s' '%s' '%s' '%s'",
-                    JMX_RESULT_DIR, JMX_RESULT_DIR,
-                    javaExe, JMX_CLIENT_PATH, port,
-                    jmxParams[0], jmxParams[1], jmxParams[2],
-                    jmxParams[3], jmxParams[4],
-                    JMX_RESULT_DIR
-                );
-
-                processHandler.log("Terminal command: java OmsJmxClient " + port + " " + String.join(" ", jmxParams));
-
-                Process process = new ProcessBuilder("/bin/zsh", "-c", cmd)
-                        .redirectErrorStream(true)
-                        .start();
-
-                try (BufferedReader br = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
-                    String line;
-                    while ((line = br.readLine()) != null) {
-                        processHandler.log(line);
-                    }
+                executor = new JmxTestExecutor(this, osCommands.getLocalOmsJmxPort(), processHandler);
+                processHandler.setCancelHandler(executor::cancel);
+                if (processHandler.isStopped() || processHandler.isProcessTerminated()) {
+                    return; // Stop during port discovery: the host is released already
                 }
-
-                int exitCode = process.waitFor();
-                new TestResultPresenter().displayGradleResults(JMX_RESULT_DIR, processHandler, exitCode);
+                final File resultDir = new File(JMX_RESULT_DIR);
+                FileUtil.delete(resultDir);
+                Files.createDirectories(resultDir.toPath());
+
+                // parallel test threads interleave the live events of different classes: render the result files
+                executor.setLiveEvents(ParamBuilder.getConcurrency(jmxParams) <= 1);
+                final String result = executor.runTestOms(jmxParams, JMX_RESULT_DIR);
+                processHandler.setCancelHandler(null);
+                if (result == null || processHandler.isStopped() || processHandler.isProcessTerminated()) {
+                    return; // cancelled from the Stop button
+                }
+                if (executor.hasStreamedResults()) {
+                    // tests were reported live from JMX notifications
+                    processHandler.finish(executor.hasStreamedFailures() ? 1 : 0);
+                    return;
+                }
+                new TestResultPresenter().displayGradleResults(JMX_RESULT_DIR, processHandler, 0);
 
             } catch (Exception e) {
+                processHandler.setCancelHandler(null);
+                if (processHandler.isStopped() || processHandler.isProcessTerminated()) {
+                    return; // cancelled from the Stop button
+                }
                 processHandler.error("Failed to run local JMX: " + e.getMessage());
                 processHandler.finish(1);
+            } finally {
+                processHandler.setCancelHandler(null);
+                if (executor != null) {
+                    executor.release();
+                }
             }
         });
     }
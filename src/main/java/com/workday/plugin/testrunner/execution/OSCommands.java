@@ -1,8 +1,17 @@
 package com.workday.plugin.testrunner.execution;
 
 import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
-
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.workday.plugin.testrunner.common.ShellEnvironment;
+import com.workday.plugin.testrunner.common.SshSessionManager;
 import com.workday.plugin.testrunner.ui.UiContentDescriptor;
 
 /**
@@ -14,14 +23,6 @@ import com.workday.plugin.testrunner.ui.UiContentDescriptor;
  */
 public class OSCommands {
     private static final String SUV_USER = "root";
-    private static final String CMD_DELETE_FILE = "rm -f %s";
-    private static final String CMD_SCP = "scp -p %s@%s:%s %s"; // -p preserves remote mtime for timestamp checks
-    // Local ORS JMX port discovery — matches local process with wd.service.type=
-    private static final String CMD_GREP_JMX_PORT = "ps -ef | grep 'wd.service.type=' | grep -v grep | grep -o 'com.sun.management.jmxremote.port=[0-9]*' | cut -d'=' -f2 | head -1";
-    // Local ORS catalina.base discovery — used to read wd.connector.port from catalina.properties
-    private static final String CMD_GREP_CATALINA_BASE = "ps -ef | grep 'wd.service.type=' | grep -v grep | grep -o 'catalina.base=[^ ]*' | cut -d'=' -f2 | head -1";
-    private static final String CMD_ON_SUV = "ssh -o StrictHostKeyChecking=no -o RequestTTY=no %s@%s %s";
-    private static final String CMD_START_PORT_FORWARDING = "ssh -o StrictHostKeyChecking=no -L %d:localhost:%d %s@%s";
 
     // Remote ORS JMX port is fixed - defined in ors2-17-17:/usr/local/workday-oms/tomcat/conf/catalina.properties
     private static final int REMOTE_ORS_JMX_PORT = 12096;
@@ -33,55 +34,44 @@ public class OSCommands {
         this.host = host;
     }
 
+    /** Deletes a local file in-process; a missing file is fine. */
     public void deleteLocalFile(final String file) {
-        final String cmd = String.format(CMD_DELETE_FILE, file);
-        log(cmd);
-        executeLocalCommand(cmd);
-    }
-
-    private void log(final String cmd) {
-        this.processHandler.log(cmd);
+        log("Deleting " + file);
+        try {
+            Files.deleteIfExists(Path.of(file));
+        }
+        catch (IOException e) {
+            log("Warning: could not delete " + file + " — " + e.getMessage());
+        }
     }
 
-    public void deleteRemoteFile(final String file) {
-        executeBestEffort(String.format(CMD_ON_SUV, SUV_USER, host, String.format(CMD_DELETE_FILE, file)));
+    /** Logs to the run's tab; background work without a tab (warm-up) runs silently. */
+    void log(final String cmd) {
+        if (processHandler != null) {
+            processHandler.log(cmd);
+        }
     }
 
-    public void deleteRemoteDir(final String dir) {
-        executeBestEffort(String.format(CMD_ON_SUV, SUV_USER, host, "rm -rf " + dir));
+    String getHost() {
+        return host;
     }
 
-    public void copyFileFromRemote(final String fromFile, final String toFile) {
-        executeLocalCommand(String.format(CMD_SCP, SUV_USER, host, fromFile, toFile));
+    /** Starts a batch of remote operations that run as one script over one SSH call. */
+    public RemoteBatch batch() {
+        return new RemoteBatch(this);
     }
 
+    /** JMX port of the local ORS JVM (the process with wd.service.type=), see {@link LocalOrsDiscovery}. */
     public int getLocalOmsJmxPort() {
-        String output = executeLocalCommand(CMD_GREP_JMX_PORT);
-        String trimmed = output.trim();
-        if (trimmed.isEmpty()) {
-            throw new RuntimeException("Could not find local ORS JMX port — is ORS running?");
-        }
-        try {
-            int port = Integer.parseInt(trimmed);
-            log("Discovered local ORS JMX port: " + port);
-            return port;
-        } catch (NumberFormatException e) {
-            throw new RuntimeException("Error parsing JMX port from output: " + output, e);
-        }
+        final LocalOrsDiscovery.OrsProcess ors = LocalOrsDiscovery.getInstance().find();
+        final int port = ors.jmxPort();
+        log("Discovered local ORS JMX port: " + port + " (pid " + ors.pid() + ")");
+        return port;
     }
 
+    /** wd.connector.port from the local ORS catalina.properties. */
     public int getLocalOrsHttpPort() {
-        String catalinaBase = executeLocalCommand(CMD_GREP_CATALINA_BASE).trim();
-        if (catalinaBase.isEmpty()) {
-            throw new RuntimeException("Could not find local ORS process");
-        }
-        String port = executeLocalCommand(
-            "grep '^wd.connector.port=' " + catalinaBase + "/conf/catalina.properties | cut -d'=' -f2"
-        ).trim();
-        if (port.isEmpty()) {
-            throw new RuntimeException("Could not find wd.connector.port in " + catalinaBase + "/conf/catalina.properties");
-        }
-        return Integer.parseInt(port);
+        return LocalOrsDiscovery.getInstance().find().httpPort();
     }
 
     public int getRemoteOmsJmxPort() {
@@ -89,50 +79,73 @@ public class OSCommands {
         return REMOTE_ORS_JMX_PORT;
     }
 
-    public void startPortForwarding(final int port) {
-        final String cmd = String.format(CMD_START_PORT_FORWARDING, port, port, SUV_USER, host);
+    /** Consumer for the stdout of a remote command, read while the command is still running. */
+    public interface RemoteStreamReader<T> {
+        T read(InputStream stdout) throws IOException;
+    }
+
+    /**
+     * Runs cmd on the host and hands its stdout to reader as it arrives (one channel on the shared
+     * session, nothing written to disk on either side). Fails if the command exits non-zero.
+     */
+    public <T> T readFromRemote(final String cmd, final RemoteStreamReader<T> reader) {
+        final List<String> argv = remoteArgv(cmd);
+        log(String.join(" ", argv));
         try {
-            final String[] command = { "/bin/bash", "-c", cmd };
-            final Process process = new ProcessBuilder(command).start();
-            Runtime.getRuntime().addShutdownHook(new Thread(process::destroy));
-
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    if (line.contains("Welcome to console login for your Workday SUV Virtual Machine!")) {
-                        return;
-                    }
-                }
+            final Process process = ShellEnvironment.getInstance().processBuilder(argv)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+            final T result;
+            try (InputStream stdout = process.getInputStream()) {
+                result = reader.read(stdout);
+                stdout.transferTo(OutputStream.nullOutputStream()); // let the remote side finish writing
             }
-        } catch (Exception e) {
-            throw new RuntimeException("Error: Failed to forward port", e);
+            final int exit = process.waitFor();
+            if (exit != 0) {
+                throw new RuntimeException("Non-zero exit code " + exit);
+            }
+            return result;
+        }
+        catch (Exception e) {
+            throw new RuntimeException("Failed to read output of remote command on " + host + ": " + cmd, e);
         }
     }
 
+    /** Runs a local pipeline under /bin/sh with the cached login environment. */
     public String executeLocalCommand(final String cmd) {
-        return execute(cmd);
+        return execute(List.of("/bin/sh", "-c", cmd));
     }
 
     public String executeRemoteCommand(final String cmd) {
-        final String remoteCmd = String.format(CMD_ON_SUV, SUV_USER, host, cmd);
-        log(remoteCmd);
-        return execute(remoteCmd);
+        final List<String> argv = remoteArgv(cmd);
+        log(String.join(" ", argv));
+        return execute(argv);
+    }
+
+    /**
+     * ssh argv for a command on the SUV host, attached to the shared per-host session
+     * (see {@link SshSessionManager}). cmd is passed as one argument and interpreted by the remote shell only.
+     */
+    List<String> remoteArgv(final String cmd) {
+        final List<String> argv = new ArrayList<>();
+        argv.add("ssh");
+        argv.addAll(SshSessionManager.getInstance().options(host));
+        argv.addAll(List.of("-o", "StrictHostKeyChecking=no", "-o", "RequestTTY=no", SUV_USER + "@" + host, cmd));
+        return argv;
     }
 
     public void setProcessHandler(final UiContentDescriptor.UiProcessHandler processHandler) {
         this.processHandler = processHandler;
     }
 
-    private String execute(final String cmd) {
+    private String execute(final List<String> argv) {
         StringBuilder output = new StringBuilder();
         StringBuilder errorOutput = new StringBuilder();
         try {
-            // Source the user's zsh profile to get the full PATH (including cloudflared,
+            // The cached login environment provides the full PATH (including cloudflared,
             // which is needed for SSH ProxyCommand on *.prd.workdaysuv.com hosts).
             // IntelliJ runs as a macOS GUI app and does not inherit the terminal PATH.
-            final String fullCmd = "source /etc/profile 2>/dev/null; source ~/.zshrc 2>/dev/null; source ~/.zprofile 2>/dev/null; " + cmd;
-            ProcessBuilder pb = new ProcessBuilder("/bin/zsh", "-c", fullCmd);
-            Process process = pb.start();
+            Process process = ShellEnvironment.getInstance().processBuilder(argv).start();
             try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()));
                  BufferedReader errorReader = new BufferedReader(new InputStreamReader(process.getErrorStream()))) {
                 reader.lines().forEach(line -> output.append(line).append("\n"));
@@ -142,31 +155,9 @@ public class OSCommands {
                 throw new RuntimeException("Non-zero exit code\nError: " + errorOutput);
             }
         } catch (Exception e) {
-            throw new RuntimeException("OS Command execution failed: " + cmd, e);
+            throw new RuntimeException("OS Command execution failed: " + String.join(" ", argv), e);
         }
         return output.toString();
     }
 
-    /**
-     * Like execute(), but does not throw on non-zero exit code.
-     * Used for cleanup commands like rm -f where failure is acceptable
-     * (e.g. file doesn't exist, or cloudflared noise on .prd. SUV hosts).
-     */
-    private void executeBestEffort(final String cmd) {
-        log(cmd);
-        try {
-            final String fullCmd = "source /etc/profile 2>/dev/null; source ~/.zshrc 2>/dev/null; source ~/.zprofile 2>/dev/null; " + cmd;
-            Process process = new ProcessBuilder("/bin/zsh", "-c", fullCmd).start();
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()));
-                 BufferedReader errorReader = new BufferedReader(new InputStreamReader(process.getErrorStream()))) {
-                reader.lines().forEach(line -> log(line));
-                errorReader.lines().forEach(line -> log("(stderr) " + line));
-            }
-            process.waitFor();
-        }
-        catch (Exception e) {
-            log("Warning: command failed (ignored): " + cmd + " — " + e.getMessage());
-        }
-    }
-
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ import com.workday.plugin.testrunner.ui.UiContentDescriptor;
  * Parses ##OMS| structured event lines emitted by tc-listener.gradle
  * and converts them into ##teamcity[ service messages for IntelliJ's SMTestRunner.
  *
- * ##OMS| format (pipe-delimited, no escaping):
+ * ##OMS| format (pipe-delimited, no escaping; line breaks in the message as \n):
  *   SUITE_START | className | displayName
  *   SUITE_END   | className | displayName
  *   TEST_START  | className | displayName | methodName
@@ -15,6 +15,9 @@ import com.workday.plugin.testrunner.ui.UiContentDescriptor;
  *   STACK       | stackTraceLine
  *   TEST_SKIP   | className | displayName | methodName | durationMs
  *
+ * In-process sources such as the Gradle Tooling API pass the same fields to {@link #event} instead,
+ * so names and messages containing '|' stay intact.
+ *
  * @author alexander.aizikivsky
  * @since Feb-2026
  */
@@ -29,6 +32,9 @@ public class OmsEventParser {
     private String pendingFailMsg;
     private final StringBuilder pendingStack = new StringBuilder();
 
+    private int eventCount;
+    private boolean anyFailure;
+
     public OmsEventParser(UiContentDescriptor.UiProcessHandler handler) {
         this.handler = handler;
     }
@@ -45,7 +51,19 @@ public class OmsEventParser {
         }
 
         String[] parts = line.substring(PREFIX.length()).split("\\|", -1);
-        if (parts.length == 0) return true;
+        if ("TEST_FAIL".equals(parts[0]) && parts.length > 5) {
+            parts[5] = parts[5].replace("\\n", "\n");
+        }
+        event(parts);
+        return true;
+    }
+
+    /**
+     * Process one event given as its fields, event name first, in the order of the ##OMS| format.
+     * Nothing is split or unescaped, so the fields may contain '|' and line breaks.
+     */
+    public void event(String... parts) {
+        if (parts.length == 0) return;
 
         String event = parts[0];
         switch (event) {
@@ -82,7 +100,7 @@ public class OmsEventParser {
                 // Stack lines follow as ##OMS|STACK|... — accumulate until flushed
                 flushPendingFail(); // flush any previous (shouldn't happen)
                 pendingFailName = get(parts, 2);
-                pendingFailMsg  = get(parts, 5).replace("\\n", "\n");
+                pendingFailMsg  = get(parts, 5);
                 pendingStack.setLength(0);
             }
             case "STACK" -> {
@@ -98,8 +116,21 @@ public class OmsEventParser {
                 tc("testIgnored name='" + esc(displayName) + "'");
                 tc("testFinished name='" + esc(displayName) + "' duration='" + dur + "'");
             }
+            default -> {
+                // unknown event: keep it off the console, but it does not build the tree
+                return;
+            }
         }
-        return true;
+        eventCount++;
+    }
+
+    /** True once at least one known event was seen, i.e. the tree was built from the stream. */
+    public boolean hasEvents() {
+        return eventCount > 0;
+    }
+
+    public boolean hasFailures() {
+        return anyFailure;
     }
 
     /** Call at end of stream to flush any remaining pending failure. */
@@ -109,6 +140,7 @@ public class OmsEventParser {
 
     private void flushPendingFail() {
         if (pendingFailName == null) return;
+        anyFailure = true;
         tc("testFailed name='" + esc(pendingFailName)
                 + "' message='" + esc(pendingFailMsg)
                 + "' details='" + esc(pendingStack.toString()) + "'");
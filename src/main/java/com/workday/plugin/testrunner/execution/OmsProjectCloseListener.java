@@ -0,0 +1,34 @@
+package com.workday.plugin.testrunner.execution;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.project.ProjectManager;
+import com.intellij.openapi.project.ProjectManagerListener;
+
+/**
+ * Closes the Gradle connection of a project when the project is closed, and tears down the SSH tunnels,
+ * test agents and pooled JMX connections when the last open project is closed. Those are per host, not
+ * per project, so closing one of several projects keeps them.
+ *
+ * @author alexander.aizikivsky
+ * @since Oct-2026
+ */
+public class OmsProjectCloseListener implements ProjectManagerListener {
+
+    @Override
+    public void projectClosing(@NotNull Project project) {
+        if (project.getBasePath() != null) {
+            GradleToolingEngine.getInstance().close(project.getBasePath());
+        }
+        for (Project open : ProjectManager.getInstance().getOpenProjects()) {
+            if (open != project) {
+                return;
+            }
+        }
+        SshTunnelRegistry.getInstance().closeAll();
+        RemoteAgentClient.closeAll();
+        JmxConnectionPool.getInstance().closeAll();
+        GradleToolingEngine.getInstance().closeAll();
+    }
+}
@@ -0,0 +1,59 @@
+package com.workday.plugin.testrunner.execution;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.fileEditor.FileEditorManager;
+import com.intellij.openapi.fileEditor.FileEditorManagerListener;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Computable;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiManager;
+
+import com.workday.plugin.testrunner.target.TestTargetExtractor;
+
+/**
+ * Starts {@link WarmupService} for the last run target when an OMS test class is opened in the editor,
+ * since running it is likely to be the next thing the user does.
+ *
+ * @author alexander.aizikivsky
+ * @since Oct-2026
+ */
+public class OmsTestFileWarmupListener implements FileEditorManagerListener {
+
+    @Override
+    public void fileOpened(@NotNull FileEditorManager source, @NotNull VirtualFile file) {
+        if (!"java".equals(file.getExtension())) {
+            return;
+        }
+        final Project project = source.getProject();
+        ApplicationManager.getApplication().executeOnPooledThread(() -> {
+            final boolean omsTest = ApplicationManager.getApplication().runReadAction(
+                (Computable<Boolean>) () -> containsOmsTest(project, file));
+            if (omsTest) {
+                WarmupService.getInstance().warmLastTarget();
+            }
+        });
+    }
+
+    private static boolean containsOmsTest(final Project project, final VirtualFile file) {
+        // annotations are resolved through the indexes, which are not available while indexing
+        if (project.isDisposed() || !file.isValid() || DumbService.isDumb(project)) {
+            return false;
+        }
+        final PsiFile psi = PsiManager.getInstance(project).findFile(file);
+        if (!(psi instanceof PsiJavaFile javaFile)) {
+            return false;
+        }
+        for (PsiClass clazz : javaFile.getClasses()) {
+            if (TestTargetExtractor.isOmsTestClass(clazz)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
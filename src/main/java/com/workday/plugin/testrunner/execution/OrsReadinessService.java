@@ -0,0 +1,166 @@
+package com.workday.plugin.testrunner.execution;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import com.intellij.openapi.application.ApplicationManager;
+
+import com.workday.plugin.testrunner.common.OmsSettings;
+import com.workday.plugin.testrunner.ui.UiContentDescriptor;
+
+/**
+ * Tenant readiness checks for verifyOms, cached per target.
+ * <p>
+ * The local ORS is asked over one shared {@link HttpClient}, so the connection is kept alive between runs;
+ * SUV hosts are asked with curl on the host over the shared SSH session. A "Ready" answer is trusted for
+ * {@link #READY_TTL_MS}; when a cached answer is past half of that it is still used and refreshed in the
+ * background, so back-to-back runs never wait for the check.
+ * <p>
+ * If the tenant is not ready (typically still starting after a deploy) the run either fails at once or,
+ * with {@link OmsSettings#isWaitForTenant()}, keeps polling with exponential backoff until it is ready,
+ * the wait times out or the run is stopped.
+ *
+ * @author alexander.aizikivsky
+ * @since Oct-2026
+ */
+public final class OrsReadinessService {
+
+    private static final long READY_TTL_MS = TimeUnit.SECONDS.toMillis(60);
+    private static final long MAX_WAIT_MS = TimeUnit.MINUTES.toMillis(15);
+    private static final long FIRST_BACKOFF_MS = 2_000;
+    private static final long MAX_BACKOFF_MS = 30_000;
+    private static final Duration HTTP_TIMEOUT = Duration.ofSeconds(5);
+
+    private static final OrsReadinessService INSTANCE = new OrsReadinessService();
+
+    /** One readiness check; returns null when ready, otherwise what the tenant reported. */
+    interface Probe {
+        String check() throws Exception;
+    }
+
+    private final HttpClient http = HttpClient.newBuilder()
+        .connectTimeout(HTTP_TIMEOUT)
+        .build();
+    private final Map<String, Long> readyAt = new ConcurrentHashMap<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    private OrsReadinessService() {
+    }
+
+    public static OrsReadinessService getInstance() {
+        return INSTANCE;
+    }
+
+    /** Probe for the local ORS tenant status page ("Ready" in the body). */
+    Probe localProbe(final int httpPort) {
+        final HttpRequest request = HttpRequest.newBuilder(
+                URI.create("http://localhost:" + httpPort + "/ors/-/tenantoperation/-status"))
+            .timeout(HTTP_TIMEOUT)
+            .GET()
+            .build();
+        return () -> {
+            final HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+            final String body = response.body().trim();
+            return response.statusCode() == 200 && "Ready".equals(body)
+                ? null
+                : "HTTP " + response.statusCode() + ": " + body;
+        };
+    }
+
+    /** Probe for the oms tenant of the SUV, asked on the host itself over the shared SSH session. */
+    Probe remoteProbe(final OSCommands osCommands, final String host) {
+        return () -> {
+            final String output =
+                osCommands.executeRemoteCommand("curl -s https://" + host + "/ors/-/tenantoperation/-list");
+            return output.contains("\noms: Ready") ? null : output;
+        };
+    }
+
+    /**
+     * Returns once the tenant behind key is ready; throws if it is not and waiting is off, the wait
+     * times out, or the handler is terminated (Stop) while waiting.
+     */
+    void awaitReady(final String key, final Probe probe, final UiContentDescriptor.UiProcessHandler handler) {
+        final Long at = readyAt.get(key);
+        final long age = at == null ? Long.MAX_VALUE : System.currentTimeMillis() - at;
+        if (age < READY_TTL_MS) {
+            if (age > READY_TTL_MS / 2) {
+                refreshInBackground(key, probe);
+            }
+            return;
+        }
+
+        final long deadline = System.currentTimeMillis() + MAX_WAIT_MS;
+        long backoff = FIRST_BACKOFF_MS;
+        while (true) {
+            final String notReady = check(key, probe);
+            if (notReady == null) {
+                return;
+            }
+            if (!OmsSettings.isWaitForTenant() || System.currentTimeMillis() + backoff > deadline) {
+                throw new RuntimeException("ORS tenant is not ready on " + key + " — got: " + notReady);
+            }
+            handler.log("Tenant not ready yet on " + key + ", retrying in " + backoff / 1000 + "s");
+            sleep(backoff);
+            if (handler.isProcessTerminated()) {
+                throw new RuntimeException("Stopped while waiting for the tenant on " + key);
+            }
+            backoff = Math.min(backoff * 2, MAX_BACKOFF_MS);
+        }
+    }
+
+    /** Refreshes the cached answer for key in the background unless it is fresh; never waits. */
+    void prefetch(final String key, final Probe probe) {
+        final Long at = readyAt.get(key);
+        if (at == null || System.currentTimeMillis() - at > READY_TTL_MS / 2) {
+            refreshInBackground(key, probe);
+        }
+    }
+
+    private String check(final String key, final Probe probe) {
+        String notReady;
+        try {
+            notReady = probe.check();
+        }
+        catch (Exception e) {
+            notReady = e.getMessage() == null ? e.toString() : e.getMessage();
+        }
+        if (notReady == null) {
+            readyAt.put(key, System.currentTimeMillis());
+        }
+        else {
+            readyAt.remove(key);
+        }
+        return notReady;
+    }
+
+    private void refreshInBackground(final String key, final Probe probe) {
+        if (refreshing.add(key)) {
+            ApplicationManager.getApplication().executeOnPooledThread(() -> {
+                try {
+                    check(key, probe);
+                }
+                finally {
+                    refreshing.remove(key);
+                }
+            });
+        }
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for the tenant", e);
+        }
+    }
+}
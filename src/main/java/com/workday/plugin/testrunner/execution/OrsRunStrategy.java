@@ -1,34 +1,46 @@
 package com.workday.plugin.testrunner.execution;
 
-import static com.workday.plugin.testrunner.common.Locations.ORS_RESULTS_FILE;
 import static com.workday.plugin.testrunner.common.Locations.ORS_TESTOUT_JMX;
-import static com.workday.plugin.testrunner.common.Locations.ORS_TESTOUT_REMOTE;
+
+import java.io.IOException;
+import java.util.List;
 
 import org.jetbrains.annotations.NotNull;
 
 import com.workday.plugin.testrunner.common.SshProbe;
+import com.workday.plugin.testrunner.ui.TestSuiteResult;
 import com.workday.plugin.testrunner.ui.UiContentDescriptor;
 
 /**
  * RunStrategy for in-container ORS execution.
- * Connects directly via SSH to the SUV host and runs jmxterm inside the ORS PID namespace,
- * writing results to /proc/$OMS_PID/root/tmp/testout and copying them to /root/testout for SCP.
- * No port-forwarding is required.
+ * Calls the OMS MBean in-process through an SSH tunnel ({@link SshTunnelRegistry}); if JMX is not
+ * reachable that way, runs jmxterm over SSH on the SUV host instead.
+ * Either way results are written inside the ORS PID namespace (/proc/$OMS_PID/root/tmp/testout)
+ * and streamed from there as one compressed tar that is parsed while it transfers.
  *
  * @author alexander.aizikivsky
  * @since Jun-2025
  */
 public class OrsRunStrategy implements RunStrategy {
 
+    // OMS runs in its own mount namespace; /tmp/testout as seen by OMS is reachable via /proc/$OMS_PID/root
+    static final String ORS_PID_LOOKUP = "ss -tlnp | grep 12096 | grep -oP 'pid=\\K[0-9]+'";
+    static final String ORS_FIND_PID = "OMS_PID=$(" + ORS_PID_LOOKUP + "); ";
+    private static final String ORS_TESTOUT_DIR = "/proc/$OMS_PID/root/tmp/testout";
+    static final String ORS_PREPARE_TESTOUT =
+        "rm -rf " + ORS_TESTOUT_DIR + "; " +
+        "mkdir -p " + ORS_TESTOUT_DIR + "; " +
+        "chmod 777 " + ORS_TESTOUT_DIR + "; " +
+        "chown 500:500 " + ORS_TESTOUT_DIR + "; ";
+    private static final String ORS_TAR_TESTOUT = "tar -C " + ORS_TESTOUT_DIR + " -czf - .";
+
     private final OSCommands osCommands;
     private final String host;
-    private final String localResultFile;
     private UiContentDescriptor.UiProcessHandler processHandler;
 
-    public OrsRunStrategy(OSCommands osCommands, String host, String localResultFile) {
+    public OrsRunStrategy(OSCommands osCommands, String host) {
         this.osCommands = osCommands;
         this.host = host;
-        this.localResultFile = localResultFile;
     }
 
     @Override
@@ -48,13 +60,17 @@ public class OrsRunStrategy implements RunStrategy {
 
     @Override
     public void deleteTempFiles() {
-        osCommands.deleteRemoteDir(ORS_TESTOUT_REMOTE);
-        osCommands.deleteLocalFile(localResultFile);
+        // the remote testout dir is recreated before each run and results go to a fresh local dir
     }
 
     @Override
     public void copyTestResults() {
-        osCommands.copyFileFromRemote(ORS_RESULTS_FILE, localResultFile);
+        // results are read by streamTestResults
+    }
+
+    @Override
+    public List<TestSuiteResult> streamTestResults() {
+        return osCommands.readFromRemote(ORS_FIND_PID + ORS_TAR_TESTOUT, ResultStreams::readTarGz);
     }
 
     @Override
@@ -63,8 +79,15 @@ public class OrsRunStrategy implements RunStrategy {
     }
 
     @Override
-    public void maybeStartPortForwarding(final int jmxPort) {
-        // No port forwarding needed for ORS container access
+    public int maybeStartPortForwarding(final int jmxPort) throws IOException {
+        final int localPort = SshTunnelRegistry.getInstance().open(host, jmxPort);
+        this.processHandler.log("JMX tunnel: localhost:" + localPort + " -> " + host + ":" + jmxPort);
+        return localPort;
+    }
+
+    @Override
+    public void releasePortForwarding(final int jmxPort) {
+        SshTunnelRegistry.getInstance().release(host, jmxPort);
     }
 
     @Override
@@ -77,6 +100,24 @@ public class OrsRunStrategy implements RunStrategy {
         return true;
     }
 
+    @Override
+    public boolean supportsNativeJmx() {
+        return true;
+    }
+
+    @Override
+    public void beforeNativeRun() {
+        // one SSH round trip for the whole preparation, with the outcome of each step
+        osCommands.batch()
+            .findOrsPid()
+            .deleteDir(ORS_TESTOUT_DIR)
+            .mkdir(ORS_TESTOUT_DIR)
+            .chmod("777", ORS_TESTOUT_DIR)
+            .chown("500:500", ORS_TESTOUT_DIR)
+            .run()
+            .requireSuccess();
+    }
+
     @Override
     public SshProbe.@NotNull Result getProbe(final String host) {
         return SshProbe.probe(host);
@@ -12,7 +12,11 @@ import org.jetbrains.annotations.NotNull;
 public class ParamBuilder {
 
     public static String @NotNull [] getClassArgs(final String className) {
-        return new String[] { "empty", className, "empty", "empty", "empty" };
+        return getClassArgs(className, "empty");
+    }
+
+    public static String @NotNull [] getClassArgs(final String className, final String category) {
+        return new String[] { "empty", className, "empty", "empty", category };
     }
 
     public static String @NotNull [] getPackageArgs(final String packageName, final String category) {
@@ -28,6 +32,36 @@ public class ParamBuilder {
         return new String[] { methodSignature, "empty", "empty", "empty", "empty" };
     }
 
+    /** Method args for "com.example.MyClass@myMethod(params)", class args for a plain class name. */
+    public static String @NotNull [] getTargetArgs(final String target) {
+        return getTargetArgs(target, "empty");
+    }
+
+    /** As {@link #getTargetArgs(String)}, with the category filter for class targets (e.g. of a sharded package run). */
+    public static String @NotNull [] getTargetArgs(final String target, final String category) {
+        return target.indexOf('@') > 0 ? getMethodArgs(target) : getClassArgs(target, category);
+    }
+
+    /**
+     * Returns a copy of the args with the testConcurrent parameter (args[3]) set to the number of
+     * parallel test threads ORS should use; 1 or less means serial ("empty").
+     */
+    public static String @NotNull [] withConcurrency(final String @NotNull [] jmxArgs, final int threads) {
+        final String[] args = jmxArgs.clone();
+        args[3] = threads > 1 ? Integer.toString(threads) : "empty";
+        return args;
+    }
+
+    /** Parallel test threads requested by the args; 1 for a serial run. */
+    public static int getConcurrency(final String @NotNull [] jmxArgs) {
+        try {
+            return Math.max(1, Integer.parseInt(jmxArgs[3]));
+        }
+        catch (NumberFormatException e) {
+            return 1;
+        }
+    }
+
     /**
      * Converts JMX-style args to a Gradle --tests argument.
      * JMX method format: "com.example.MyClass@myMethod" -> "com.example.MyClass.myMethod"
@@ -0,0 +1,110 @@
+package com.workday.plugin.testrunner.execution;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+import com.intellij.util.concurrency.AppExecutorUtil;
+
+import com.workday.plugin.testrunner.common.OmsSettings;
+import com.workday.plugin.testrunner.ui.UiContentDescriptor;
+
+/**
+ * The checks and preparation before an OMS run, started together instead of one after another.
+ * <p>
+ * verifyOms, the JMX port lookup and the cleanup of old results do not depend on each other, so each runs
+ * as its own {@link CompletableFuture} stage and the slowest one decides the pre-run time. The test itself
+ * only needs the port and the cleanup: it starts optimistically while the tenant check is still going and
+ * is aborted ({@link UiContentDescriptor.UiProcessHandler#abort}) if that check fails. When waiting for a
+ * starting tenant is on, the run waits for the check instead, since it is expected to take a while.
+ * Each stage logs how long it took.
+ *
+ * @author alexander.aizikivsky
+ * @since Oct-2026
+ */
+final class PreRunPipeline {
+
+    private final UiContentDescriptor.UiProcessHandler handler;
+    private final long startedAt = System.currentTimeMillis();
+    private final CompletableFuture<Void> verified;
+    private final CompletableFuture<Integer> jmxPort;
+    private final CompletableFuture<Void> cleaned;
+
+    private PreRunPipeline(final RunStrategy strategy, final UiContentDescriptor.UiProcessHandler handler) {
+        this.handler = handler;
+        this.verified = stage("verifyOms", () -> {
+            strategy.verifyOms();
+            return null;
+        });
+        this.jmxPort = stage("jmxPort", strategy::getOmsJmxPort);
+        this.cleaned = stage("cleanup", () -> {
+            strategy.deleteTempFiles();
+            return null;
+        });
+    }
+
+    /** Starts all stages; the strategy must already have its process handler. */
+    static PreRunPipeline start(final RunStrategy strategy, final UiContentDescriptor.UiProcessHandler handler) {
+        return new PreRunPipeline(strategy, handler);
+    }
+
+    /**
+     * Waits for what the run needs and returns the JMX port. Aborts the handler later if verifyOms
+     * fails after this returned; throws the first stage failure if it happened before.
+     */
+    int awaitRunnable() throws Exception {
+        if (OmsSettings.isWaitForTenant()) {
+            await(verified);
+        }
+        final int port = await(jmxPort);
+        await(cleaned);
+        if (verified.isCompletedExceptionally()) {
+            await(verified); // rethrow: no need to start a run that is already known to fail
+        }
+        verified.whenComplete((ignored, error) -> {
+            if (error != null) {
+                handler.abort("❌ Pre-run check failed, stopping the run: " + cause(error).getMessage());
+            }
+        });
+        handler.log("OMS JMX port: " + port + " (pre-run " + (System.currentTimeMillis() - startedAt) + " ms"
+            + (verified.isDone() ? ")" : ", tenant check still running)"));
+        return port;
+    }
+
+    /** Waits for every stage, for callers that must not start optimistically. */
+    int awaitAll() throws Exception {
+        await(verified);
+        await(cleaned);
+        return await(jmxPort);
+    }
+
+    private <T> CompletableFuture<T> stage(final String name, final Supplier<T> step) {
+        return CompletableFuture.supplyAsync(() -> {
+            final long begin = System.currentTimeMillis();
+            try {
+                return step.get();
+            }
+            finally {
+                handler.log("⏱ " + name + ": " + (System.currentTimeMillis() - begin) + " ms");
+            }
+        }, AppExecutorUtil.getAppExecutorService());
+    }
+
+    private static <T> T await(final CompletableFuture<T> future) throws Exception {
+        try {
+            return future.get();
+        }
+        catch (ExecutionException e) {
+            throw cause(e);
+        }
+    }
+
+    private static Exception cause(final Throwable error) {
+        Throwable t = error;
+        while ((t instanceof CompletionException || t instanceof ExecutionException) && t.getCause() != null) {
+            t = t.getCause();
+        }
+        return t instanceof Exception e ? e : new RuntimeException(t);
+    }
+}
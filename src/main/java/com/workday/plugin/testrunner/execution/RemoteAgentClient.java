@@ -0,0 +1,299 @@
+package com.workday.plugin.testrunner.execution;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.workday.plugin.testrunner.common.ShellEnvironment;
+import com.workday.plugin.testrunner.common.SshSessionManager;
+
+/**
+ * Client for the resident test agent (resources/agent/OmsTestAgent.java) on an SUV host.
+ * <p>
+ * The agent source is uploaded once per host into a directory named after its content hash,
+ * so a changed agent is picked up automatically and an unchanged one is never re-sent.
+ * It is started over one long-lived SSH channel (attached to the shared session), keeps its own
+ * JMX connection to the ORS JVM open, and serves EXECUTE/CANCEL line requests. Each started process has its
+ * own replies, so a process that exits after a restart cannot fail the requests of its successor.
+ * The agent exits when the channel closes, so nothing is left running on the host after the IDE exits.
+ *
+ * @author alexander.aizikivsky
+ * @since Oct-2026
+ */
+public final class RemoteAgentClient {
+
+    private static final String AGENT_RESOURCE = "/agent/OmsTestAgent.java";
+    private static final String REMOTE_DIR = "/root/.oms-test-agent";
+    private static final long START_TIMEOUT_SECONDS = 60; // includes in-memory compilation by the source launcher
+    private static final long CANCEL_TIMEOUT_SECONDS = 30; // how long Stop waits for OMS to let go of the test
+
+    private static final Map<String, RemoteAgentClient> CLIENTS = new ConcurrentHashMap<>();
+    // host -> hash of the agent version known to be present there
+    private static final Set<String> UPLOADED = ConcurrentHashMap.newKeySet();
+
+    private final String host;
+    private final int jmxPort;
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    /** Current agent process; replaced on restart, so replies of an old process never reach a new one. */
+    private Agent agent;
+
+    /** One started agent process with the requests waiting for its replies. */
+    private static final class Agent {
+        final Process process;
+        final BufferedWriter requests;
+        final CompletableFuture<String> ready = new CompletableFuture<>();
+        final Map<String, CompletableFuture<String>> pending = new ConcurrentHashMap<>();
+
+        Agent(final Process process) {
+            this.process = process;
+            this.requests = new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+        }
+    }
+
+    private RemoteAgentClient(final String host, final int jmxPort) {
+        this.host = host;
+        this.jmxPort = jmxPort;
+    }
+
+    public static RemoteAgentClient forHost(final String host, final int jmxPort) {
+        return CLIENTS.computeIfAbsent(host + ":" + jmxPort, k -> new RemoteAgentClient(host, jmxPort));
+    }
+
+    public static void closeAll() {
+        CLIENTS.values().forEach(RemoteAgentClient::close);
+        CLIENTS.clear();
+    }
+
+    /** Uploads (if needed) and starts the agent, or returns at once if it is already running. */
+    public synchronized void ensureRunning() throws IOException {
+        if (agent != null && agent.process.isAlive()) {
+            return;
+        }
+        final byte[] source = readAgentSource();
+        final String remotePath = REMOTE_DIR + "/" + hash(source) + "/OmsTestAgent.java";
+        upload(source, remotePath);
+
+        final Process p = ShellEnvironment.getInstance()
+            .processBuilder(sshArgv("exec java " + remotePath + " " + jmxPort))
+            .redirectError(ProcessBuilder.Redirect.DISCARD)
+            .start();
+        final Agent started = new Agent(p);
+        agent = started;
+        final Thread reader = new Thread(() -> readReplies(started), "oms-agent-" + host);
+        reader.setDaemon(true);
+        reader.start();
+        try {
+            started.ready.get(START_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException | ExecutionException | TimeoutException e) {
+            close();
+            throw new IOException("Test agent did not start on " + host, e);
+        }
+    }
+
+    /** Runs executeTestSuite on the host and blocks until the agent replies (runs can take hours). */
+    public String execute(final String[] jmxParams, final String toDir) throws IOException {
+        final String id = Integer.toString(nextId.incrementAndGet());
+        final CompletableFuture<String> result = new CompletableFuture<>();
+        final Agent target = running();
+        target.pending.put(id, result);
+        final StringBuilder line = new StringBuilder("EXECUTE ").append(id);
+        for (int i = 0; i < 5; i++) {
+            line.append(' ').append(encode(jmxParams[i]));
+        }
+        line.append(' ').append(encode(toDir));
+        try {
+            send(target, line.toString());
+            return result.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the test agent", e);
+        }
+        catch (ExecutionException e) {
+            throw e.getCause() instanceof IOException io ? io : new IOException(e.getCause().getMessage(), e.getCause());
+        }
+        finally {
+            target.pending.remove(id);
+        }
+    }
+
+    /**
+     * Asks the agent to call cancelRunningTest and waits (at most {@value #CANCEL_TIMEOUT_SECONDS} s) until the
+     * in-flight executes have returned, so the caller knows OMS has let go of the test.
+     */
+    public void cancel() {
+        final Agent target;
+        try {
+            target = running();
+            send(target, "CANCEL");
+        }
+        catch (IOException ignored) {
+            // agent is gone: it cancels the running test itself when its channel closes
+            return;
+        }
+        try {
+            CompletableFuture.allOf(target.pending.values().toArray(CompletableFuture[]::new))
+                .get(CANCEL_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        catch (ExecutionException | TimeoutException ignored) {
+            // the agent exited (the test is cancelled with it) or OMS is stuck: nothing more to wait for
+        }
+    }
+
+    public synchronized void close() {
+        if (agent != null) {
+            // closing stdin lets the agent cancel a running test and exit on its own
+            try {
+                agent.requests.close();
+            }
+            catch (IOException ignored) {
+                // destroyed below anyway
+            }
+            agent.process.destroy();
+            agent = null;
+        }
+    }
+
+    private synchronized Agent running() throws IOException {
+        if (agent == null || !agent.process.isAlive()) {
+            throw new IOException("Test agent on " + host + " is not running");
+        }
+        return agent;
+    }
+
+    private synchronized void send(final Agent target, final String line) throws IOException {
+        if (!target.process.isAlive()) {
+            throw new IOException("Test agent on " + host + " is not running");
+        }
+        target.requests.write(line);
+        target.requests.newLine();
+        target.requests.flush();
+    }
+
+    private void readReplies(final Agent from) {
+        final Process p = from.process;
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(p.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                final String[] r = line.split(" ");
+                switch (r[0]) {
+                    case "READY" -> from.ready.complete(line);
+                    case "RESULT" -> complete(from, r[1], decode(r, 2), null);
+                    case "ERROR" -> complete(from, r[1], null, decode(r, 2));
+                    default -> {
+                        // CANCELLED, or banner text printed by the login shell
+                    }
+                }
+            }
+        }
+        catch (IOException ignored) {
+            // treated like EOF below
+        }
+        final IOException gone = new IOException("Test agent on " + host + " exited");
+        from.ready.completeExceptionally(gone);
+        from.pending.values().forEach(f -> f.completeExceptionally(gone));
+    }
+
+    private static void complete(final Agent from, final String id, final String result, final String error) {
+        final CompletableFuture<String> f = from.pending.get(id);
+        if (f == null) {
+            return; // "ERROR -" replies are not tied to an execute
+        }
+        if (error != null) {
+            f.completeExceptionally(new IOException(error));
+        }
+        else {
+            f.complete(result);
+        }
+    }
+
+    private void upload(final byte[] source, final String remotePath) throws IOException {
+        final String marker = host + "@" + remotePath;
+        if (UPLOADED.contains(marker)) {
+            return;
+        }
+        final String dir = remotePath.substring(0, remotePath.lastIndexOf('/'));
+        final Process p = ShellEnvironment.getInstance()
+            .processBuilder(sshArgv("test -f " + remotePath + " || { mkdir -p " + dir +
+                " && cat > " + remotePath + ".tmp && mv " + remotePath + ".tmp " + remotePath + "; }"))
+            .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+            .redirectError(ProcessBuilder.Redirect.DISCARD)
+            .start();
+        try (OutputStream stdin = p.getOutputStream()) {
+            stdin.write(source);
+        }
+        catch (IOException ignored) {
+            // remote side skipped reading because the file already exists
+        }
+        try {
+            if (p.waitFor() != 0) {
+                throw new IOException("Could not upload the test agent to " + host);
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while uploading the test agent", e);
+        }
+        UPLOADED.add(marker);
+    }
+
+    private List<String> sshArgv(final String remoteCommand) {
+        final List<String> argv = new ArrayList<>();
+        argv.add("ssh");
+        argv.addAll(SshSessionManager.getInstance().options(host));
+        argv.addAll(List.of("-o", "StrictHostKeyChecking=accept-new", "root@" + host, remoteCommand));
+        return argv;
+    }
+
+    private static byte[] readAgentSource() throws IOException {
+        try (InputStream in = RemoteAgentClient.class.getResourceAsStream(AGENT_RESOURCE)) {
+            if (in == null) {
+                throw new IOException("Missing plugin resource " + AGENT_RESOURCE);
+            }
+            return in.readAllBytes();
+        }
+    }
+
+    private static String hash(final byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content), 0, 6);
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String encode(final String s) {
+        return Base64.getEncoder().encodeToString(s.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(final String[] reply, final int index) {
+        return reply.length > index
+            ? new String(Base64.getDecoder().decode(reply[index]), StandardCharsets.UTF_8)
+            : "";
+    }
+}
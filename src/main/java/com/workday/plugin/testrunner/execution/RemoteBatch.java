@@ -0,0 +1,186 @@
+package com.workday.plugin.testrunner.execution;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.workday.plugin.testrunner.common.ShellEnvironment;
+
+/**
+ * Several remote operations sent to the SUV host as one shell script over one SSH channel, so a run phase
+ * costs a single round trip however many steps it has. Create it with {@link OSCommands#batch()}.
+ * <p>
+ * The operations run in order in the same shell, so a variable set by one (e.g. {@code OMS_PID} from
+ * {@link #findOrsPid()}) is visible to the next. Each operation's stdout and stderr are captured between
+ * markers together with its exit code. If a required operation fails, the rest are skipped.
+ *
+ * @author alexander.aizikivsky
+ * @since Oct-2026
+ */
+public final class RemoteBatch {
+
+    private static final String MARK = "@@oms-batch@@";
+    private static final Pattern END = Pattern.compile(Pattern.quote(MARK) + " end (\\d+) (\\d+)");
+    static final int SKIPPED = -1;
+
+    /** Outcome of one operation; exitCode is {@link #SKIPPED} if it did not run. */
+    public record Op(String name, int exitCode, String output) {
+
+        public boolean ok() {
+            return exitCode == 0;
+        }
+    }
+
+    private final OSCommands osCommands;
+    private final List<String> names = new ArrayList<>();
+    private final StringBuilder script = new StringBuilder();
+
+    RemoteBatch(final OSCommands osCommands) {
+        this.osCommands = osCommands;
+    }
+
+    /** Adds a shell command; when required and it fails, the remaining operations are skipped. */
+    public RemoteBatch add(final String name, final String command, final boolean required) {
+        final int index = names.size();
+        names.add(name);
+        script.append("echo '").append(MARK).append(" begin ").append(index).append("'\n")
+            .append("{ ").append(command).append("\n} 2>&1\n")
+            .append("rc=$?; echo; echo \"").append(MARK).append(" end ").append(index).append(" $rc\"\n");
+        if (required) {
+            script.append("[ $rc -eq 0 ] || exit 0\n");
+        }
+        return this;
+    }
+
+    public RemoteBatch deleteFile(final String path) {
+        return add("delete " + path, "rm -f " + path, false);
+    }
+
+    public RemoteBatch deleteDir(final String path) {
+        return add("delete " + path, "rm -rf " + path, false);
+    }
+
+    public RemoteBatch mkdir(final String path) {
+        return add("mkdir " + path, "mkdir -p " + path, true);
+    }
+
+    public RemoteBatch chmod(final String mode, final String path) {
+        return add("chmod " + mode + " " + path, "chmod " + mode + " " + path, false);
+    }
+
+    public RemoteBatch chown(final String owner, final String path) {
+        return add("chown " + owner + " " + path, "chown " + owner + " " + path, false);
+    }
+
+    /** Sets OMS_PID to the ORS JVM (the process listening on the OMS JMX port) for the following operations. */
+    public RemoteBatch findOrsPid() {
+        return add("find ORS pid", "OMS_PID=$(" + OrsRunStrategy.ORS_PID_LOOKUP + ") && echo \"$OMS_PID\"", true);
+    }
+
+    /** Runs all operations in one SSH call and returns one result per operation, in order. */
+    public Results run() {
+        final List<String> argv = osCommands.remoteArgv(script.toString());
+        osCommands.log("Remote batch on " + osCommands.getHost() + ": " + String.join(", ", names));
+        final String stdout;
+        final int exit;
+        try {
+            final Process process = ShellEnvironment.getInstance().processBuilder(argv)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+            stdout = readAll(process.getInputStream());
+            exit = process.waitFor();
+        }
+        catch (IOException | InterruptedException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            throw new RuntimeException("Remote batch failed on " + osCommands.getHost() + ": " + e.getMessage(), e);
+        }
+        final Results results = new Results(parse(stdout));
+        if (exit != 0 && results.ops.stream().allMatch(op -> op.exitCode == SKIPPED)) {
+            // the script never started: ssh itself failed
+            throw new RuntimeException("Remote batch failed on " + osCommands.getHost() + ": ssh exit code " + exit);
+        }
+        for (Op op : results.ops) {
+            osCommands.log("  " + op.name + ": " + (op.exitCode == SKIPPED ? "skipped" : op.ok() ? "ok" : "exit " + op.exitCode)
+                + (op.ok() || op.output.isEmpty() ? "" : " — " + op.output));
+        }
+        return results;
+    }
+
+    private List<Op> parse(final String stdout) {
+        final String[] outputs = new String[names.size()];
+        final int[] codes = new int[names.size()];
+        Arrays.fill(codes, SKIPPED);
+        int current = -1;
+        StringBuilder out = new StringBuilder();
+        for (String line : stdout.split("\n", -1)) {
+            if (line.startsWith(MARK + " begin ")) {
+                current = Integer.parseInt(line.substring((MARK + " begin ").length()).trim());
+                out = new StringBuilder();
+                continue;
+            }
+            final Matcher end = END.matcher(line);
+            if (end.matches()) {
+                final int index = Integer.parseInt(end.group(1));
+                codes[index] = Integer.parseInt(end.group(2));
+                outputs[index] = out.toString().trim();
+                current = -1;
+                continue;
+            }
+            if (current >= 0) {
+                out.append(line).append('\n');
+            }
+        }
+        final List<Op> ops = new ArrayList<>();
+        for (int i = 0; i < names.size(); i++) {
+            ops.add(new Op(names.get(i), codes[i], outputs[i] == null ? "" : outputs[i]));
+        }
+        return ops;
+    }
+
+    private static String readAll(final InputStream in) throws IOException {
+        try (in) {
+            final ByteArrayOutputStream buf = new ByteArrayOutputStream();
+            in.transferTo(buf);
+            return buf.toString(StandardCharsets.UTF_8);
+        }
+    }
+
+    /** Per-operation outcomes of one batch. */
+    public static final class Results {
+
+        private final List<Op> ops;
+
+        private Results(final List<Op> ops) {
+            this.ops = ops;
+        }
+
+        public List<Op> ops() {
+            return ops;
+        }
+
+        /** The first operation with that name, or null. */
+        public Op get(final String name) {
+            return ops.stream().filter(op -> op.name.equals(name)).findFirst().orElse(null);
+        }
+
+        /** Throws if any operation failed or was skipped, naming the first one. */
+        public Results requireSuccess() {
+            for (Op op : ops) {
+                if (!op.ok()) {
+                    throw new RuntimeException("Remote step failed: " + op.name
+                        + (op.exitCode == SKIPPED ? " (skipped after an earlier failure)" : " (exit " + op.exitCode + ")")
+                        + (op.output.isEmpty() ? "" : ": " + op.output));
+                }
+            }
+            return this;
+        }
+    }
+}
@@ -2,19 +2,31 @@ package com.workday.plugin.testrunner.execution;
 
 import java.io.BufferedReader;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.jetbrains.annotations.NotNull;
 
 import com.workday.plugin.testrunner.common.Locations;
+import com.workday.plugin.testrunner.common.OmsSettings;
 import com.workday.plugin.testrunner.common.SshProbe;
+import com.workday.plugin.testrunner.common.TestHistoryStore;
 import com.workday.plugin.testrunner.ui.TestResultPresenter;
 import com.workday.plugin.testrunner.ui.UiContentDescriptor;
 
 /**
- * RemoteJRunStrategy runs ORS tests via ./gradlew and then parses the JUnit XML
- * results that Gradle writes to build/test-results/remoteServerTest/ to build
- * the test tree with individual test methods.
+ * RemoteJRunStrategy runs ORS tests via the Gradle remoteServerTest task.
+ * By default the build goes through the Gradle Tooling API ({@link GradleToolingEngine}): the daemon stays
+ * warm between runs and the tree is built from test events as they arrive. With
+ * {@link OmsSettings#isGradleToolingApi()} off, ./gradlew is started with the tc-listener.gradle init script
+ * and its ##OMS| output builds the tree live; the JUnit XML results that Gradle writes to
+ * build/test-results/remoteServerTest/ are only parsed if no events arrived.
  *
  * @author alexander.aizikivsky
  * @since Feb-2026
@@ -22,11 +34,14 @@ import com.workday.plugin.testrunner.ui.UiContentDescriptor;
 public class RemoteJRunStrategy implements RunStrategy {
 
     private static final String GRADLE_TASK = ":oms-application:remoteServerTest";
-    private static final String GRADLE_EXTRA_PARAMS =
-            "-Pjunit.platform.engine.distributor.server.path=ors/execute_remote_junit " +
-                    "-Pjunit.platform.engine.distributor.server.port=12090 " +
-                    "-Pjunit.platform.engine.distributor.reply.port=43096 " +
-                    "--rerun";
+    private static final List<String> GRADLE_EXTRA_PARAMS = List.of(
+            "-Pjunit.platform.engine.distributor.server.path=ors/execute_remote_junit",
+            "-Pjunit.platform.engine.distributor.server.port=12090",
+            "-Pjunit.platform.engine.distributor.reply.port=43096",
+            "--rerun");
+
+    private static final String INIT_SCRIPT_RESOURCE = "/tc-listener.gradle";
+    private static File initScriptFile;
 
     private static final String GRADLE_RESULTS_DIR =
             "oms-application/build/test-results/remoteServerTest";
@@ -39,7 +54,7 @@ public class RemoteJRunStrategy implements RunStrategy {
     @Override public void deleteTempFiles() {}
     @Override public void copyTestResults() {}
     @Override public void verifyOms() {}
-    @Override public void maybeStartPortForwarding(final int jmxPort) {}
+    @Override public int maybeStartPortForwarding(final int jmxPort) { return jmxPort; }
     @Override public boolean bypassJmxProxy() { return false; }
     public void setProject(final com.intellij.openapi.project.Project project) {}
 
@@ -54,38 +69,111 @@ public class RemoteJRunStrategy implements RunStrategy {
     }
 
     public void runGradleTest(final String gradleTestArg) {
+        runGradleTests(List.of(gradleTestArg));
+    }
+
+    /** Runs all the --tests filters (classes or Class.method) in one Gradle build. */
+    public void runGradleTests(final List<String> gradleTestArgs) {
         final String basePath = Locations.getBasePath();
+        processHandler.setHistoryEnvironment(TestHistoryStore.REMOTE_J);
+        final String filters = gradleTestArgs.stream()
+                .map(arg -> "--tests \"" + arg + "\"")
+                .collect(Collectors.joining(" "));
 
         processHandler.log("Terminal command: cd " + basePath + " && ./gradlew " + GRADLE_TASK
-                + " --tests \"" + gradleTestArg + "\" " + GRADLE_EXTRA_PARAMS);
+                + " " + filters + " " + String.join(" ", GRADLE_EXTRA_PARAMS));
 
         com.intellij.openapi.application.ApplicationManager.getApplication().executeOnPooledThread(() -> {
             try {
-                final String cmd = "./gradlew " + GRADLE_TASK
-                        + " --tests \"" + gradleTestArg + "\" "
-                        + GRADLE_EXTRA_PARAMS;
-
-                Process process = new ProcessBuilder("/bin/zsh", "-c", cmd)
-                        .directory(new File(basePath))
-                        .redirectErrorStream(true)
-                        .start();
-
-                try (BufferedReader br = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
-                    String line;
-                    while ((line = br.readLine()) != null) {
-                        processHandler.log(line);
-                    }
+                if (OmsSettings.isGradleToolingApi()) {
+                    runWithToolingApi(basePath, gradleTestArgs);
+                } else {
+                    runWithWrapper(basePath, filters);
                 }
-
-                int exitCode = process.waitFor();
-
-                String resultDir = basePath + "/" + GRADLE_RESULTS_DIR;
-                new TestResultPresenter().displayGradleResults(resultDir, processHandler, exitCode);
-
             } catch (Exception e) {
                 processHandler.error("Failed to run Gradle: " + e.getMessage());
                 processHandler.finish(1);
             }
         });
     }
-}
\ No newline at end of file
+
+    private void runWithToolingApi(final String basePath, final List<String> gradleTestArgs) {
+        final List<String> args = new ArrayList<>();
+        gradleTestArgs.forEach(arg -> args.addAll(List.of("--tests", arg)));
+        args.addAll(GRADLE_EXTRA_PARAMS);
+        final GradleToolingEngine.Outcome outcome =
+                GradleToolingEngine.getInstance().runTests(basePath, GRADLE_TASK, args, processHandler);
+        if (outcome.cancelled()) {
+            processHandler.log("Test cancelled");
+            processHandler.finish(0);
+        } else if (outcome.streamed()) {
+            // the tree was built from test events; no XML to read
+            processHandler.finish(outcome.failures() ? 1 : outcome.exitCode());
+        } else {
+            new TestResultPresenter().displayGradleResults(basePath + "/" + GRADLE_RESULTS_DIR, processHandler,
+                    outcome.exitCode());
+        }
+    }
+
+    /**
+     * Starts ./gradlew with tc-listener.gradle as init script: its ##OMS| lines go through
+     * {@link OmsEventParser} and build the tree while the tests run, so the XML results are only read
+     * if no event arrived (e.g. the init script could not be written).
+     */
+    private void runWithWrapper(final String basePath, final String testFilters) throws Exception {
+        final File initScript = initScript(processHandler);
+        final String cmd = "./gradlew " + GRADLE_TASK
+                + " " + testFilters + " "
+                + String.join(" ", GRADLE_EXTRA_PARAMS)
+                + (initScript != null ? " --init-script '" + initScript.getAbsolutePath() + "'" : "");
+
+        Process process = new ProcessBuilder("/bin/zsh", "-c", cmd)
+                .directory(new File(basePath))
+                .redirectErrorStream(true)
+                .start();
+        processHandler.setCancelHandler(process::destroy);
+
+        final OmsEventParser parser = new OmsEventParser(processHandler);
+        try (BufferedReader br = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                if (!parser.process(line)) {
+                    processHandler.log(line);
+                }
+            }
+        } finally {
+            parser.finish();
+        }
+
+        int exitCode = process.waitFor();
+        processHandler.setCancelHandler(null);
+        if (processHandler.isStopped() || processHandler.isProcessTerminated()) {
+            return; // stopped from the Stop button
+        }
+        if (parser.hasEvents()) {
+            processHandler.finish(parser.hasFailures() ? 1 : exitCode);
+            return;
+        }
+        String resultDir = basePath + "/" + GRADLE_RESULTS_DIR;
+        new TestResultPresenter().displayGradleResults(resultDir, processHandler, exitCode);
+    }
+
+    /** tc-listener.gradle copied from the plugin jar to a temp file once per IDE session; null if that fails. */
+    private static synchronized File initScript(final UiContentDescriptor.UiProcessHandler processHandler) {
+        if (initScriptFile == null || !initScriptFile.isFile()) {
+            try (InputStream in = RemoteJRunStrategy.class.getResourceAsStream(INIT_SCRIPT_RESOURCE)) {
+                if (in == null) {
+                    throw new IOException("Missing plugin resource " + INIT_SCRIPT_RESOURCE);
+                }
+                final File file = File.createTempFile("oms-tc-listener-", ".gradle");
+                file.deleteOnExit();
+                Files.copy(in, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                initScriptFile = file;
+            } catch (IOException e) {
+                processHandler.log("Warning: live RemoteJ results unavailable (" + e.getMessage() + "), reading XML afterwards");
+                return null;
+            }
+        }
+        return initScriptFile;
+    }
+}
@@ -1,8 +1,12 @@
 package com.workday.plugin.testrunner.execution;
 
+import java.io.IOException;
+import java.util.List;
+
 import org.jetbrains.annotations.NotNull;
 
 import com.workday.plugin.testrunner.common.SshProbe;
+import com.workday.plugin.testrunner.ui.TestSuiteResult;
 import com.workday.plugin.testrunner.ui.UiContentDescriptor;
 
 /**
@@ -14,21 +18,21 @@ import com.workday.plugin.testrunner.ui.UiContentDescriptor;
 public class RemoteRunStrategy
         implements RunStrategy {
 
+    static final String DOCKER_PREPARE_LOGS = "docker exec ors2-17-17 mkdir -p /usr/local/workday-oms/logs/junit";
+    private static final String PREPARE_LOGS_STEP = "prepare junit logs";
+
     private final OSCommands osCommands;
     private final String host;
-    private final String localResultFile;
     private final String remotePath;
     private final String jmxPath;
     private UiContentDescriptor.UiProcessHandler processHandler;
 
     public RemoteRunStrategy(OSCommands osCommands,
                              String host,
-                             String localResultFile,
                              String remotePath,
                              String jmxPath) {
         this.osCommands = osCommands;
         this.host = host;
-        this.localResultFile = localResultFile;
         this.remotePath = remotePath;
         this.jmxPath = jmxPath;
     }
@@ -54,32 +58,52 @@ public class RemoteRunStrategy
 
     @Override
     public void deleteTempFiles() {
-        osCommands.deleteLocalFile(localResultFile);
-        osCommands.deleteRemoteFile(remotePath);
+        // the old result file and the junit log dir in one SSH round trip; beforeNativeRun has nothing left to do
+        final RemoteBatch.Op logs = osCommands.batch()
+            .deleteFile(remotePath)
+            .add(PREPARE_LOGS_STEP, DOCKER_PREPARE_LOGS, true)
+            .run()
+            .get(PREPARE_LOGS_STEP);
+        if (!logs.ok()) {
+            throw new RuntimeException("Could not prepare the OMS junit log directory: " + logs.output());
+        }
     }
 
     @Override
     public void copyTestResults() {
-        osCommands.copyFileFromRemote(remotePath, localResultFile);
+        // results are read by streamTestResults
+    }
+
+    @Override
+    public List<TestSuiteResult> streamTestResults() {
+        return osCommands.readFromRemote("cat " + remotePath, ResultStreams::readXml);
     }
 
     @Override
     public void verifyOms() {
-        String curlCmd = "https://" + host + "/ors/-/tenantoperation/-list"; // ORS for remote
-        String output = osCommands.executeRemoteCommand("curl " + curlCmd);
-        if (!output.contains("\noms: Ready")) {
+        final OrsReadinessService readiness = OrsReadinessService.getInstance();
+        try {
+            readiness.awaitReady(host, readiness.remoteProbe(osCommands, host), processHandler);
+        }
+        catch (RuntimeException e) {
             final String errorMessage = "Error: Installation does not support oms tenant";
-            this.processHandler.error(output);
+            this.processHandler.error(e.getMessage());
             this.processHandler.error(errorMessage);
-            throw new RuntimeException(errorMessage);
+            throw new RuntimeException(errorMessage, e);
         }
         this.processHandler.log("Oms tenant found.");
     }
 
     @Override
-    public void maybeStartPortForwarding(final int jmxPort) {
-        this.processHandler.log("Starting port forwarding for JMX on port " + jmxPort);
-        osCommands.startPortForwarding(jmxPort);
+    public int maybeStartPortForwarding(final int jmxPort) throws IOException {
+        final int localPort = SshTunnelRegistry.getInstance().open(host, jmxPort);
+        this.processHandler.log("JMX tunnel: localhost:" + localPort + " -> " + host + ":" + jmxPort);
+        return localPort;
+    }
+
+    @Override
+    public void releasePortForwarding(final int jmxPort) {
+        SshTunnelRegistry.getInstance().release(host, jmxPort);
     }
 
     @Override
@@ -87,6 +111,11 @@ public class RemoteRunStrategy
         return true;
     }
 
+    @Override
+    public boolean supportsNativeJmx() {
+        return true;
+    }
+
     @Override
     public void setProcessHandler(final UiContentDescriptor.UiProcessHandler processHandler) {
         this.processHandler = processHandler;
@@ -0,0 +1,47 @@
+package com.workday.plugin.testrunner.execution;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import com.workday.plugin.testrunner.ui.TestSuiteResult;
+import com.workday.plugin.testrunner.ui.XmlResultParser;
+
+/**
+ * Parses JUnit result files directly from remote command output, so results are never
+ * written to disk and parsing overlaps with the transfer.
+ *
+ * @author alexander.aizikivsky
+ * @since Oct-2026
+ */
+final class ResultStreams {
+
+    private ResultStreams() {
+    }
+
+    /** Reads every TEST-*.xml entry of a gzipped tar stream (e.g. {@code tar -czf - .}). */
+    static List<TestSuiteResult> readTarGz(final InputStream in) throws IOException {
+        final XmlResultParser parser = new XmlResultParser();
+        final List<TestSuiteResult> suites = new ArrayList<>();
+        final TarStreamReader tar = new TarStreamReader(new GZIPInputStream(in, 64 * 1024));
+        TarStreamReader.Entry entry;
+        while ((entry = tar.next()) != null) {
+            final String fileName = entry.name().substring(entry.name().lastIndexOf('/') + 1);
+            if (entry.isFile() && fileName.startsWith("TEST-") && fileName.endsWith(".xml")) {
+                final TestSuiteResult suite = parser.parseTestSuite(entry.content());
+                if (suite != null) {
+                    suites.add(suite);
+                }
+            }
+        }
+        return suites;
+    }
+
+    /** Reads a single JUnit XML document (e.g. {@code cat TEST-junit-jupiter.xml}). */
+    static List<TestSuiteResult> readXml(final InputStream in) {
+        final TestSuiteResult suite = new XmlResultParser().parseTestSuite(in);
+        return suite != null ? List.of(suite) : List.of();
+    }
+}
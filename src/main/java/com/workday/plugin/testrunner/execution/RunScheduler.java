@@ -0,0 +1,226 @@
+package com.workday.plugin.testrunner.execution;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.intellij.execution.process.ProcessEvent;
+import com.intellij.execution.process.ProcessHandler;
+import com.intellij.execution.process.ProcessListener;
+import com.intellij.openapi.application.ApplicationManager;
+
+import com.workday.plugin.testrunner.common.Locations;
+import com.workday.plugin.testrunner.common.TestHistoryStore;
+import com.workday.plugin.testrunner.ui.UiContentDescriptor;
+
+/**
+ * Serialises OMS runs per host. OMS accepts one running suite per JVM, so a run started while another
+ * one is running on the same host would fail or pick up the other run's results.
+ * <p>
+ * Every run is submitted with its tab. It starts at once if its host is free; otherwise it waits in the
+ * host's queue and its tab shows the position and an ETA from {@link TestDurations}. Different hosts run in
+ * parallel. The host is released when the tab's process handler terminates, which covers normal completion,
+ * failures and the Stop button; stopping a queued run just removes it from the queue.
+ * A queued SUV run can be moved to another host ({@link #move}). Sharded runs take whole hosts with
+ * {@link #tryReserve} instead of queueing per class.
+ *
+ * @author alexander.aizikivsky
+ * @since Oct-2026
+ */
+public final class RunScheduler {
+
+    private static final RunScheduler INSTANCE = new RunScheduler();
+
+    /** Starts the run on the given host; called on a pooled thread once the host is free. */
+    public interface HostRun {
+        void start(String host);
+    }
+
+    private final Map<String, HostQueue> queues = new HashMap<>();
+
+    private RunScheduler() {
+    }
+
+    public static RunScheduler getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Queues a run for the host. The run must eventually finish (or destroy) the tab's handler,
+     * which releases the host. Local runs use {@link Locations#LOCALHOST} and cannot be moved.
+     */
+    public void submit(final String host, final String[] jmxParams, final UiContentDescriptor descriptor,
+                       final HostRun run) {
+        submit(host, TestDurations.estimateRun(jmxParams, TestHistoryStore.environmentOf(host)), descriptor, run);
+    }
+
+    /** Like {@link #submit(String, String[], UiContentDescriptor, HostRun)}, for a run whose duration is already estimated. */
+    void submit(final String host, final long estimateMillis, final UiContentDescriptor descriptor, final HostRun run) {
+        final Entry entry = new Entry(host, descriptor.getUiProcessHandler(), run, estimateMillis);
+        entry.handler.addProcessListener(new ProcessListener() {
+            @Override
+            public void processTerminated(@NotNull ProcessEvent event) {
+                onTerminated(entry);
+            }
+        });
+        synchronized (this) {
+            queue(host).waiting.add(entry);
+            dispatch(host);
+        }
+    }
+
+    /** Takes the host for a run outside the queue; false if it is running, reserved or has waiting runs. */
+    public synchronized boolean tryReserve(final String host) {
+        final HostQueue q = queue(host);
+        if (!q.isFree() || !q.waiting.isEmpty()) {
+            return false;
+        }
+        q.reserved = true;
+        return true;
+    }
+
+    public synchronized void release(final String host) {
+        queue(host).reserved = false;
+        dispatch(host);
+    }
+
+    /** True while the handler's run waits in a queue for a remote host. */
+    public synchronized boolean isMovable(final ProcessHandler handler) {
+        final Entry e = findWaiting(handler);
+        return e != null && !Locations.LOCALHOST.equals(e.host);
+    }
+
+    /** The candidates with nothing running, reserved or waiting on them. */
+    public synchronized List<String> freeHosts(final Collection<String> candidates) {
+        final List<String> free = new ArrayList<>();
+        for (String host : candidates) {
+            final HostQueue q = queues.get(host);
+            if (q == null || (q.isFree() && q.waiting.isEmpty())) {
+                free.add(host);
+            }
+        }
+        return free;
+    }
+
+    /** Moves a waiting run to the end of another host's queue; false if it has already started. */
+    public synchronized boolean move(final ProcessHandler handler, final String newHost) {
+        final Entry e = findWaiting(handler);
+        if (e == null || Locations.LOCALHOST.equals(e.host)) {
+            return false;
+        }
+        final String oldHost = e.host;
+        queue(oldHost).waiting.remove(e);
+        e.host = newHost;
+        e.handler.log("Moved from " + oldHost + " to " + newHost);
+        queue(newHost).waiting.add(e);
+        dispatch(newHost);
+        logPositions(oldHost);
+        return true;
+    }
+
+    private synchronized void onTerminated(final Entry entry) {
+        final HostQueue q = queue(entry.host);
+        if (q.running == entry) {
+            q.running = null;
+            dispatch(entry.host);
+        }
+        else if (q.waiting.remove(entry)) {
+            logPositions(entry.host);
+        }
+    }
+
+    /** Starts the next waiting run if the host is free and tells the others where they stand. */
+    private void dispatch(final String host) {
+        final HostQueue q = queue(host);
+        if (q.isFree() && !q.waiting.isEmpty()) {
+            final Entry next = q.waiting.poll();
+            q.running = next;
+            next.startedAt = System.currentTimeMillis();
+            final String runHost = next.host;
+            ApplicationManager.getApplication().executeOnPooledThread(() -> start(next, runHost));
+        }
+        logPositions(host);
+    }
+
+    private static void start(final Entry entry, final String host) {
+        entry.handler.setHistoryEnvironment(TestHistoryStore.environmentOf(host));
+        try {
+            entry.run.start(host);
+        }
+        catch (Exception ex) {
+            entry.handler.error("Could not start the run: " + ex.getMessage());
+            entry.handler.finish(1);
+        }
+    }
+
+    private void logPositions(final String host) {
+        final HostQueue q = queue(host);
+        long ahead = q.running == null ? 0
+            : Math.max(0, q.running.estimateMillis - (System.currentTimeMillis() - q.running.startedAt));
+        int position = 1;
+        for (Entry e : q.waiting) {
+            final String message = "Queued on " + host + ": position " + position + " of " + q.waiting.size()
+                + (q.reserved ? ", host reserved by a sharded run" : ", starts in ~" + minutes(ahead) + " min");
+            if (!message.equals(e.lastStatus)) {
+                e.lastStatus = message;
+                e.handler.log(message);
+            }
+            ahead += e.estimateMillis;
+            position++;
+        }
+    }
+
+    private Entry findWaiting(final ProcessHandler handler) {
+        for (HostQueue q : queues.values()) {
+            for (Entry e : q.waiting) {
+                if (e.handler == handler) {
+                    return e;
+                }
+            }
+        }
+        return null;
+    }
+
+    private HostQueue queue(final String host) {
+        return queues.computeIfAbsent(host, h -> new HostQueue());
+    }
+
+    private static long minutes(final long millis) {
+        return Math.max(1, Math.round(millis / 60_000.0));
+    }
+
+    private static final class HostQueue {
+
+        private final Deque<Entry> waiting = new ArrayDeque<>();
+        private Entry running;
+        private boolean reserved;
+
+        boolean isFree() {
+            return running == null && !reserved;
+        }
+    }
+
+    private static final class Entry {
+
+        private final UiContentDescriptor.UiProcessHandler handler;
+        private final HostRun run;
+        private final long estimateMillis;
+        private String host;
+        private long startedAt;
+        private String lastStatus;
+
+        Entry(final String host, final UiContentDescriptor.UiProcessHandler handler, final HostRun run,
+              final long estimateMillis) {
+            this.host = host;
+            this.handler = handler;
+            this.run = run;
+            this.estimateMillis = estimateMillis;
+        }
+    }
+}
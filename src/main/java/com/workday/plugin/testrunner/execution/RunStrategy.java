@@ -1,8 +1,12 @@
 package com.workday.plugin.testrunner.execution;
 
+import java.io.IOException;
+import java.util.List;
+
 import org.jetbrains.annotations.NotNull;
 
 import com.workday.plugin.testrunner.common.SshProbe;
+import com.workday.plugin.testrunner.ui.TestSuiteResult;
 import com.workday.plugin.testrunner.ui.UiContentDescriptor;
 
 /**
@@ -19,9 +23,24 @@ public interface RunStrategy {
     void deleteTempFiles();
     void copyTestResults();
     void verifyOms();
-    void maybeStartPortForwarding(final int jmxPort);
+    /**
+     * Makes jmxPort reachable from this JVM and returns the local port to connect to. A forward stays
+     * held for this run until {@link #releasePortForwarding}, so no other host's run can take its port.
+     */
+    int maybeStartPortForwarding(final int jmxPort) throws IOException;
+    /** Ends the hold taken by {@link #maybeStartPortForwarding}; the forward itself stays open for reuse. */
+    default void releasePortForwarding(final int jmxPort) {}
     boolean bypassJmxProxy();
     default boolean isOrsContainer() { return false; }
+    /** True if a bypass strategy should first try the in-process JMX path (falls back to jmxterm). */
+    default boolean supportsNativeJmx() { return false; }
+    /** Remote preparation before an in-process executeTestSuite call. */
+    default void beforeNativeRun() {}
+    /**
+     * Fetches and parses the results of the finished run straight from the remote stream, or returns
+     * null if the strategy copies the result file to Locations.getLocalResultFile() instead.
+     */
+    default List<TestSuiteResult> streamTestResults() { return null; }
     SshProbe.@NotNull Result getProbe(final String host);
 
     void setProcessHandler(UiContentDescriptor.UiProcessHandler processHandler);
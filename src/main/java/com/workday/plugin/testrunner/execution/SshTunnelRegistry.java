@@ -0,0 +1,200 @@
+package com.workday.plugin.testrunner.execution;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import com.workday.plugin.testrunner.common.SshSessionManager;
+
+/**
+ * Local port forwards to the OMS JMX port on SUV hosts, one per host, reused across runs.
+ * <p>
+ * Forwards are added to the host's shared SSH session ({@link SshSessionManager}) with
+ * {@code ssh -O forward}, so opening a tunnel costs no extra handshake and no extra process.
+ * A tunnel only counts as open once a real JMX connection through it has succeeded.
+ * <p>
+ * The RMI stub returned by the remote registry embeds the server's JMX port, and the client then
+ * connects to localhost:&lt;that port&gt;. The local port must therefore equal the remote one: with a
+ * different local port the RMI calls would go to whatever listens on the remote port number locally,
+ * possibly another host's tunnel. So only one host can hold a tunnel to a given port at a time; an idle
+ * tunnel of another host is closed to free the port, a held one makes open() fail (callers fall back to jmxterm).
+ * A run holds its tunnel from {@link #open} until {@link #release}, across the connect and the whole
+ * executeTestSuite call, so the port cannot be handed to another host in between.
+ * If the probe fails the host is remembered for {@link #FAILURE_TTL_MS} so callers fall back
+ * without paying for the probe again on every run.
+ *
+ * @author alexander.aizikivsky
+ * @since Oct-2026
+ */
+public final class SshTunnelRegistry {
+
+    private static final long FAILURE_TTL_MS = TimeUnit.MINUTES.toMillis(30);
+    private static final int LISTEN_CHECK_TIMEOUT_MILLIS = 1_000;
+
+    private static final SshTunnelRegistry INSTANCE = new SshTunnelRegistry();
+
+    private final Map<String, Tunnel> tunnels = new ConcurrentHashMap<>();
+    private final Map<String, Long> failedUntil = new ConcurrentHashMap<>();
+    private final Map<Integer, Object> locks = new ConcurrentHashMap<>();
+
+    private SshTunnelRegistry() {
+    }
+
+    public static SshTunnelRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the local port forwarding to remotePort on the host, opening and probing the tunnel
+     * if there is no usable one yet. The tunnel is held until the matching {@link #release}.
+     *
+     * @throws IOException if the forward cannot be added or JMX does not answer through it
+     */
+    public int open(final String host, final int remotePort) throws IOException {
+        final String key = key(host, remotePort);
+        // one lock per port number, not per host: tunnels of different hosts compete for the same local port
+        synchronized (lockFor(remotePort)) {
+            final Long until = failedUntil.get(key);
+            if (until != null && until > System.currentTimeMillis()) {
+                throw new IOException("JMX through an SSH tunnel failed recently for " + key);
+            }
+            final Tunnel existing = tunnels.get(key);
+            int inherited = 0;
+            if (existing != null) {
+                if (existing.isUsable()) {
+                    existing.holders++;
+                    return existing.localPort;
+                }
+                // stale: dropped here, but runs still holding it release against the replacement
+                inherited = existing.holders;
+                tunnels.remove(key);
+                existing.close();
+            }
+            final int localPort = claimPort(host, remotePort);
+            final SshSessionManager sessions = SshSessionManager.getInstance();
+            if (!sessions.forward(host, localPort, remotePort)) {
+                throw new IOException("Could not add SSH port forward " + localPort + " -> " + key);
+            }
+            final Tunnel created = new Tunnel(host, remotePort, localPort);
+            try {
+                probe(host, localPort);
+            }
+            catch (IOException e) {
+                created.close();
+                failedUntil.put(key, System.currentTimeMillis() + FAILURE_TTL_MS);
+                throw e;
+            }
+            failedUntil.remove(key);
+            created.holders = inherited + 1;
+            tunnels.put(key, created);
+            return localPort;
+        }
+    }
+
+    /** Ends a hold taken by {@link #open}; the tunnel stays open for the next run. */
+    public void release(final String host, final int remotePort) {
+        synchronized (lockFor(remotePort)) {
+            final Tunnel t = tunnels.get(key(host, remotePort));
+            if (t != null) {
+                t.holders = Math.max(0, t.holders - 1);
+            }
+        }
+    }
+
+    public void close(final String host, final int remotePort) {
+        final Tunnel t = tunnels.remove(key(host, remotePort));
+        if (t != null) {
+            t.close();
+        }
+    }
+
+    public void closeAll() {
+        tunnels.values().forEach(Tunnel::close);
+        tunnels.clear();
+        failedUntil.clear();
+    }
+
+    /** Connects through the tunnel and checks the JunitTestListener MBean; the connection stays pooled for the run. */
+    private static void probe(final String host, final int localPort) throws IOException {
+        final JmxConnectionPool pool = JmxConnectionPool.getInstance();
+        pool.acquire(host, localPort);
+        pool.release(host, localPort);
+    }
+
+    /** Frees the local port from an idle tunnel of another host if needed; fails if it stays taken. */
+    private int claimPort(final String host, final int port) throws IOException {
+        for (Tunnel other : tunnels.values()) {
+            if (other.localPort == port && !other.host.equals(host)) {
+                if (other.holders > 0 || JmxConnectionPool.getInstance().isInUse(other.host, port)) {
+                    throw new IOException("Local port " + port + " is in use by a running test on " + other.host);
+                }
+                tunnels.remove(key(other.host, other.remotePort), other);
+                other.close();
+            }
+        }
+        if (!isFree(port)) {
+            throw new IOException("Local port " + port + " is taken by another process");
+        }
+        return port;
+    }
+
+    private static boolean isListening(final int port) {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), LISTEN_CHECK_TIMEOUT_MILLIS);
+            return true;
+        }
+        catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static boolean isFree(final int port) {
+        try (ServerSocket ignored = new ServerSocket(port, 0, InetAddress.getLoopbackAddress())) {
+            return true;
+        }
+        catch (IOException e) {
+            return false;
+        }
+    }
+
+    private Object lockFor(final int port) {
+        return locks.computeIfAbsent(port, k -> new Object());
+    }
+
+    private static String key(final String host, final int port) {
+        return host + ":" + port;
+    }
+
+    private static final class Tunnel {
+
+        private final String host;
+        private final int remotePort;
+        private final int localPort;
+        private int holders; // guarded by the registry's per-port lock
+
+        Tunnel(final String host, final int remotePort, final int localPort) {
+            this.host = host;
+            this.remotePort = remotePort;
+            this.localPort = localPort;
+        }
+
+        /**
+         * A healthy pooled connection proves the whole path. Otherwise the master must be up and still listen
+         * on the local port: a master restarted since the forward was added is alive but has no forward.
+         */
+        boolean isUsable() {
+            return JmxConnectionPool.getInstance().isConnected(host, localPort)
+                || SshSessionManager.getInstance().isAlive(host) && isListening(localPort);
+        }
+
+        void close() {
+            JmxConnectionPool.getInstance().invalidate(host, localPort);
+            SshSessionManager.getInstance().cancelForward(host, localPort, remotePort);
+        }
+    }
+}
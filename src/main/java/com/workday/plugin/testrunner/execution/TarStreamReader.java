@@ -0,0 +1,167 @@
+package com.workday.plugin.testrunner.execution;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Minimal sequential reader for tar streams (ustar, GNU long names, pax path records),
+ * enough to read result files straight from {@code tar -czf - .} output without unpacking to disk.
+ *
+ * @author alexander.aizikivsky
+ * @since Oct-2026
+ */
+final class TarStreamReader {
+
+    private static final int BLOCK = 512;
+
+    private final InputStream in;
+    private long remaining;  // unread bytes of the current entry
+    private long padding;    // bytes after the current entry up to the block boundary
+
+    TarStreamReader(final InputStream in) {
+        this.in = in;
+    }
+
+    /** Entry name (without leading "./") and a stream over its content, valid until the next call to next(). */
+    record Entry(String name, boolean isFile, InputStream content) {
+    }
+
+    /** Advances to the next entry, skipping the rest of the current one; null at the end of the archive. */
+    Entry next() throws IOException {
+        skipFully(remaining + padding);
+        remaining = 0;
+        padding = 0;
+
+        String longName = null;
+        while (true) {
+            final byte[] header = new byte[BLOCK];
+            if (!readBlock(header) || isZero(header)) {
+                return null;
+            }
+            final long size = parseOctal(header, 124, 12);
+            final char type = (char) header[156];
+            if (type == 'L' || type == 'x') {
+                // GNU long name / pax extended header: the name of the following entry is in the data
+                final byte[] data = readData(size);
+                longName = type == 'L' ? cString(data, 0, data.length) : paxPath(data, longName);
+                continue;
+            }
+            String name = longName != null ? longName : ustarName(header);
+            if (name.startsWith("./")) {
+                name = name.substring(2);
+            }
+            remaining = size;
+            padding = (BLOCK - size % BLOCK) % BLOCK;
+            return new Entry(name, type == '0' || type == '\0', new EntryStream());
+        }
+    }
+
+    private String ustarName(final byte[] header) {
+        final String name = cString(header, 0, 100);
+        final boolean ustar = "ustar".equals(cString(header, 257, 6).trim());
+        final String prefix = ustar ? cString(header, 345, 155) : "";
+        return prefix.isEmpty() ? name : prefix + "/" + name;
+    }
+
+    private byte[] readData(final long size) throws IOException {
+        final byte[] data = in.readNBytes((int) size);
+        if (data.length < size) {
+            throw new EOFException("Truncated tar stream");
+        }
+        skipFully((BLOCK - size % BLOCK) % BLOCK);
+        return data;
+    }
+
+    private boolean readBlock(final byte[] block) throws IOException {
+        final int n = in.readNBytes(block, 0, BLOCK);
+        if (n == 0) {
+            return false;
+        }
+        if (n < BLOCK) {
+            throw new EOFException("Truncated tar header");
+        }
+        return true;
+    }
+
+    private void skipFully(final long n) throws IOException {
+        in.skipNBytes(n);
+    }
+
+    private static String paxPath(final byte[] data, final String fallback) {
+        // records look like "<len> path=<value>\n"
+        for (String record : new String(data, StandardCharsets.UTF_8).split("\n")) {
+            final int sp = record.indexOf(' ');
+            if (sp > 0 && record.startsWith("path=", sp + 1)) {
+                return record.substring(sp + 1 + "path=".length());
+            }
+        }
+        return fallback;
+    }
+
+    private static boolean isZero(final byte[] block) {
+        for (byte b : block) {
+            if (b != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long parseOctal(final byte[] b, final int off, final int len) {
+        // octal digits, optionally padded with leading spaces and terminated by a space or NUL
+        long v = 0;
+        int i = off;
+        while (i < off + len && b[i] == ' ') {
+            i++;
+        }
+        for (; i < off + len && b[i] >= '0' && b[i] <= '7'; i++) {
+            v = (v << 3) + (b[i] - '0');
+        }
+        return v;
+    }
+
+    private static String cString(final byte[] b, final int off, final int len) {
+        int end = off;
+        while (end < off + len && b[end] != 0) {
+            end++;
+        }
+        return new String(b, off, end - off, StandardCharsets.UTF_8);
+    }
+
+    /** Content of the current entry; closing it does not close the archive. */
+    private final class EntryStream extends InputStream {
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            final int c = in.read();
+            if (c < 0) {
+                throw new EOFException("Truncated tar entry");
+            }
+            remaining--;
+            return c;
+        }
+
+        @Override
+        public int read(final byte[] buf, final int off, final int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            final int n = in.read(buf, off, (int) Math.min(len, remaining));
+            if (n < 0) {
+                throw new EOFException("Truncated tar entry");
+            }
+            remaining -= n;
+            return n;
+        }
+
+        @Override
+        public void close() {
+            // the rest of the entry is skipped by next()
+        }
+    }
+}
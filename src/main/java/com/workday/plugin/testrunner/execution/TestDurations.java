@@ -0,0 +1,91 @@
+package com.workday.plugin.testrunner.execution;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+
+import com.workday.plugin.testrunner.common.TestHistoryStore;
+
+/**
+ * Duration estimates for whole runs, used to balance sharded runs and to tell queued runs when they start.
+ * Read from the {@link TestHistoryStore} of the current project: a class counts with its last duration
+ * in the environment the run goes to. A class never run there takes the longest duration from environments
+ * of the same kind (other SUV hosts), then the imported one, then the median of the environment.
+ *
+ * @author alexander.aizikivsky
+ * @since Oct-2026
+ */
+final class TestDurations {
+
+    private static final long DEFAULT_MILLIS = 60_000; // nothing known yet: assume a minute per class
+
+    private TestDurations() {
+    }
+
+    /** Estimated duration of the class in the environment ({@link TestHistoryStore#environmentOf}). */
+    static long estimate(final String className, final String environment) {
+        return estimate(className, environment, durations());
+    }
+
+    /** Rough duration of a run from its JMX args: the class for class and method runs, all known classes for a package. */
+    static long estimateRun(final String[] jmxParams, final String environment) {
+        final Map<String, Map<String, Long>> all = durations();
+        if (!"empty".equals(jmxParams[0])) {
+            final int at = jmxParams[0].indexOf('@');
+            return estimate(at > 0 ? jmxParams[0].substring(0, at) : jmxParams[0], environment, all);
+        }
+        if (!"empty".equals(jmxParams[1])) {
+            return estimate(jmxParams[1], environment, all);
+        }
+        final String prefix = jmxParams[2] + ".";
+        final Set<String> classes = new HashSet<>();
+        all.values().forEach(map -> map.keySet().stream().filter(c -> c.startsWith(prefix)).forEach(classes::add));
+        final long known = classes.stream().mapToLong(c -> estimate(c, environment, all)).sum();
+        return known > 0 ? known / ParamBuilder.getConcurrency(jmxParams) : DEFAULT_MILLIS;
+    }
+
+    private static long estimate(final String className, final String environment,
+                                 final Map<String, Map<String, Long>> all) {
+        final Long exact = all.getOrDefault(environment, Map.of()).get(className);
+        if (exact != null) {
+            return exact;
+        }
+        final String kind = kind(environment);
+        final OptionalLong similar = all.entrySet().stream()
+            .filter(e -> kind.equals(kind(e.getKey())) && e.getValue().containsKey(className))
+            .mapToLong(e -> e.getValue().get(className))
+            .max();
+        if (similar.isPresent()) {
+            return similar.getAsLong();
+        }
+        final Long imported = all.getOrDefault(TestHistoryStore.IMPORTED, Map.of()).get(className);
+        if (imported != null) {
+            return imported;
+        }
+        final Map<String, Long> own = all.getOrDefault(environment, Map.of());
+        final List<Long> known = new ArrayList<>(own.values());
+        if (known.isEmpty()) {
+            all.values().forEach(map -> known.addAll(map.values()));
+        }
+        if (known.isEmpty()) {
+            return DEFAULT_MILLIS;
+        }
+        Collections.sort(known);
+        return known.get(known.size() / 2);
+    }
+
+    /** "ors" for every SUV host, the environment itself otherwise. */
+    private static String kind(final String environment) {
+        final int colon = environment.indexOf(':');
+        return colon > 0 ? environment.substring(0, colon) : environment;
+    }
+
+    private static Map<String, Map<String, Long>> durations() {
+        final TestHistoryStore store = TestHistoryStore.current();
+        return store == null ? Map.of() : store.classDurations();
+    }
+}
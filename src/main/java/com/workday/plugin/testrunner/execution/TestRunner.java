@@ -1,8 +1,11 @@
 package com.workday.plugin.testrunner.execution;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -10,8 +13,11 @@ import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.project.Project;
 
 import com.workday.plugin.testrunner.common.Locations;
+import com.workday.plugin.testrunner.common.OmsSettings;
 import com.workday.plugin.testrunner.ui.TestResultPresenter;
+import com.workday.plugin.testrunner.ui.TestSuiteResult;
 import com.workday.plugin.testrunner.ui.UiContentDescriptor;
+import com.workday.plugin.testrunner.ui.XmlResultParser;
 
 /**
  * This class is responsible for running tests using the specified run strategy.
@@ -26,11 +32,18 @@ public class TestRunner {
     private final int jmxPort;
     private final String[] jmxParams;
     private UiContentDescriptor.UiProcessHandler handler;
+    private boolean liveEvents;
+    private boolean streamedFailures;
+
+    private enum Outcome { COMPLETED, STREAMED, CANCELLED }
 
     public TestRunner(final @NotNull RunStrategy runStrategy, final int jmxPort, final String[] jmxParams) {
         this.strategy = runStrategy;
         this.jmxPort = jmxPort;
         this.jmxParams = jmxParams;
+        // with parallel test threads the live event stream interleaves tests of different classes and
+        // cannot be turned into a tree; the result file is grouped by class and rendered instead
+        this.liveEvents = ParamBuilder.getConcurrency(jmxParams) <= 1;
     }
 
     public static void runTest(
@@ -44,11 +57,7 @@ public class TestRunner {
 
         try {
             processHandler.log(buildTestingHeader(jmxParams));
-            runStrategy.verifyOms();
-            final int jmxPort = runStrategy.getOmsJmxPort();
-            processHandler.log("OMS JMX port: " + jmxPort);
-            processHandler.log("Deleting old result files");
-            runStrategy.deleteTempFiles();
+            final int jmxPort = PreRunPipeline.start(runStrategy, processHandler).awaitRunnable();
             new TestRunner(runStrategy, jmxPort, jmxParams).runTests(processHandler);
         }
         catch (Exception ex) {
@@ -60,48 +69,49 @@ public class TestRunner {
         }
     }
 
+    /**
+     * Runs the test synchronously on the calling thread and returns the parsed results without
+     * rendering them or finishing the handler; null if the run was cancelled or produced no usable
+     * result file (the reason is logged). Live JMX events are off, so several runs can share one tree.
+     */
+    public static List<TestSuiteResult> runForResults(final RunStrategy runStrategy,
+                                                      final String[] jmxParams,
+                                                      final UiContentDescriptor.UiProcessHandler processHandler)
+        throws Exception {
+        runStrategy.setProcessHandler(processHandler);
+        final int jmxPort = PreRunPipeline.start(runStrategy, processHandler).awaitAll();
+        final TestRunner runner = new TestRunner(runStrategy, jmxPort, jmxParams);
+        runner.handler = processHandler;
+        runner.liveEvents = false;
+        final long runStartedAt = System.currentTimeMillis();
+        return runner.execute() == Outcome.CANCELLED ? null : runner.fetchResults(runStartedAt);
+    }
+
     public void runTests(final UiContentDescriptor.UiProcessHandler handler) {
         this.handler = handler;
         ApplicationManager.getApplication().executeOnPooledThread(() -> {
             final long runStartedAt = System.currentTimeMillis();
             try {
-                //   JmxTestExecutor supposed to work always, but sometimes it fails to create XML log files.
-                //  To deal with this, we use a BypassTestExecutor that runs the JMX command directly on the remote server
-                // TODO: Investigate and remove this workaround when JMXTestExecutor is fixed
-                if (strategy.bypassJmxProxy()) {
-                    final BypassTestExecutor ex = new BypassTestExecutor(strategy, jmxPort, handler);
-                    handler.setCancelHandler(ex::cancel);
-                    if (strategy.isOrsContainer()) {
-                        ex.runTestOrs(jmxParams);
-                    } else {
-                        ex.runTestOms(jmxParams);
-                    }
-                    handler.setCancelHandler(null);
-                    if (ex.isCancelled()) {
+                switch (execute()) {
+                    case CANCELLED -> {
                         handler.log("Test cancelled");
                         handler.finish(0);
                         return;
                     }
+                    case STREAMED -> {
+                        // the tree was built live from JMX notifications; no result file to fetch
+                        handler.finish(streamedFailures ? 1 : 0);
+                        return;
+                    }
+                    default -> {
+                    }
                 }
-                else {
-                    new JmxTestExecutor(strategy, jmxPort, handler).runTestOms(jmxParams);
-                }
-                log("Retrieving test output");
-                strategy.copyTestResults();
-
-                final File resultFile = new File(Locations.getLocalResultFile());
-                if (!resultFile.exists()) {
-                    logError("No result file found — the JMX call produced no output");
-                    handler.finish(1);
-                    return;
-                }
-                if (resultFile.lastModified() < runStartedAt) {
-                    logError("Result file predates this run — stale results discarded (JMX call likely failed silently)");
+                final List<TestSuiteResult> results = fetchResults(runStartedAt);
+                if (results == null) {
                     handler.finish(1);
                     return;
                 }
-
-                new TestResultPresenter().displayParsedResults(handler);
+                new TestResultPresenter().displaySuites(results, handler, 0);
             }
             catch (Exception ex) {
                 logError("❌ Test run failed: " + ex.getMessage());
@@ -114,6 +124,120 @@ public class TestRunner {
         });
     }
 
+    /** Calls executeTestSuite through the best available path and blocks until it returns. */
+    private Outcome execute() throws IOException {
+        //   JmxTestExecutor supposed to work always, but sometimes it fails to create XML log files.
+        //  To deal with this, we use a BypassTestExecutor that runs the JMX command directly on the remote server
+        // TODO: Investigate and remove this workaround when JMXTestExecutor is fixed
+        final JmxTestExecutor jmxExecutor = new JmxTestExecutor(strategy, jmxPort, handler);
+        jmxExecutor.setLiveEvents(liveEvents);
+        // set before connecting: a Stop or failed tenant check during the pre-run stage cancels at once
+        handler.setCancelHandler(jmxExecutor::cancel);
+        if (jmxExecutor.isCancelled() || handler.isStopped() || handler.isProcessTerminated()) {
+            handler.setCancelHandler(null);
+            return Outcome.CANCELLED;
+        }
+        if (!strategy.bypassJmxProxy() || (strategy.supportsNativeJmx() && jmxExecutor.connect())) {
+            try {
+                strategy.beforeNativeRun();
+                jmxExecutor.runTestOms(jmxParams);
+            }
+            finally {
+                jmxExecutor.release(); // runTestOms releases itself; this covers a failed beforeNativeRun
+            }
+            handler.setCancelHandler(null);
+            if (jmxExecutor.isCancelled()) {
+                return Outcome.CANCELLED;
+            }
+            if (jmxExecutor.hasStreamedResults()) {
+                streamedFailures = jmxExecutor.hasStreamedFailures();
+                return Outcome.STREAMED;
+            }
+            return Outcome.COMPLETED;
+        }
+        if (jmxExecutor.isCancelled()) {
+            handler.setCancelHandler(null);
+            return Outcome.CANCELLED;
+        }
+        if (strategy.supportsNativeJmx() && OmsSettings.isRemoteAgentEnabled() && startAgent()) {
+            return runWithAgent() ? Outcome.COMPLETED : Outcome.CANCELLED;
+        }
+        final BypassTestExecutor ex = new BypassTestExecutor(strategy, jmxPort, handler);
+        handler.setCancelHandler(ex::cancel);
+        if (ex.isCancelled()) {
+            handler.setCancelHandler(null);
+            return Outcome.CANCELLED;
+        }
+        if (strategy.isOrsContainer()) {
+            ex.runTestOrs(jmxParams);
+        } else {
+            ex.runTestOms(jmxParams);
+        }
+        handler.setCancelHandler(null);
+        return ex.isCancelled() ? Outcome.CANCELLED : Outcome.COMPLETED;
+    }
+
+    /** Fetches and parses the results of the finished run; null (with the reason logged) if there are none. */
+    private List<TestSuiteResult> fetchResults(final long runStartedAt) {
+        log("Retrieving test output");
+        final List<TestSuiteResult> streamed = strategy.streamTestResults();
+        if (streamed != null) {
+            if (streamed.isEmpty()) {
+                logError("No result files found — the JMX call produced no output");
+                return null;
+            }
+            return streamed;
+        }
+        strategy.copyTestResults();
+
+        final File resultFile = new File(Locations.getLocalResultFile());
+        if (!resultFile.exists()) {
+            logError("No result file found — the JMX call produced no output");
+            return null;
+        }
+        if (resultFile.lastModified() < runStartedAt) {
+            logError("Result file predates this run — stale results discarded (JMX call likely failed silently)");
+            return null;
+        }
+        final TestSuiteResult suite = new XmlResultParser().parseTestSuite(resultFile);
+        if (suite == null) {
+            logError("Could not parse test results from " + resultFile.getAbsolutePath());
+            return null;
+        }
+        final List<TestSuiteResult> results = List.of(suite);
+        return results;
+    }
+
+    private boolean startAgent() {
+        try {
+            RemoteAgentClient.forHost(strategy.getHost(), jmxPort).ensureRunning();
+            return true;
+        }
+        catch (IOException e) {
+            log("Test agent not available on " + strategy.getHost() + " (" + e.getMessage() + "), using jmxterm");
+            return false;
+        }
+    }
+
+    /** Runs the test through the resident agent; returns false if the run was cancelled. */
+    private boolean runWithAgent() throws IOException {
+        final RemoteAgentClient agent = RemoteAgentClient.forHost(strategy.getHost(), jmxPort);
+        final AtomicBoolean cancelled = new AtomicBoolean();
+        handler.setCancelHandler(() -> {
+            cancelled.set(true);
+            agent.cancel();
+        });
+        try {
+            strategy.beforeNativeRun();
+            log("Running tests via test agent on " + strategy.getHost());
+            log(agent.execute(jmxParams, strategy.getJmxResultFolder()));
+        }
+        finally {
+            handler.setCancelHandler(null);
+        }
+        return !cancelled.get();
+    }
+
     private void logError(final String string) {
         this.handler.error(string);
     }
@@ -147,6 +271,9 @@ public class TestRunner {
         if (!"empty".equals(category)) {
             sb.append(", category=").append(category);
         }
+        if (ParamBuilder.getConcurrency(p) > 1) {
+            sb.append(", threads=").append(ParamBuilder.getConcurrency(p));
+        }
         return sb.toString();
     }
 }
\ No newline at end of file
@@ -0,0 +1,136 @@
+package com.workday.plugin.testrunner.execution;
+
+import static com.workday.plugin.testrunner.common.Locations.LOCALHOST;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.util.concurrency.AppExecutorUtil;
+
+import com.workday.plugin.testrunner.common.LastTestStorage;
+import com.workday.plugin.testrunner.common.SshSessionManager;
+
+/**
+ * Opens what the next OMS run will need before the user clicks Run: the SSH session and JMX tunnel for an
+ * SUV host, or the local ORS process lookup and pooled JMX connection, plus the tenant readiness answer.
+ * <p>
+ * Nothing is handed over explicitly: every piece lives in the cache a run strategy already goes through
+ * ({@link SshSessionManager}, {@link SshTunnelRegistry}, {@link JmxConnectionPool}, {@link LocalOrsDiscovery},
+ * {@link OrsReadinessService}), so whichever strategy runs next finds it warm. Warming a target again within
+ * {@link #REWARM_MS} does nothing. A warmed SUV host whose JMX connection has been idle long enough to be
+ * evicted from the pool gets its tunnel and SSH session closed, unless a run is using the host.
+ *
+ * @author alexander.aizikivsky
+ * @since Oct-2026
+ */
+public final class WarmupService {
+
+    private static final long REWARM_MS = TimeUnit.MINUTES.toMillis(2);
+    private static final long IDLE_CHECK_MINUTES = 11; // a little past the pool's idle timeout
+
+    private static final WarmupService INSTANCE = new WarmupService();
+
+    private final Map<String, Long> warmedAt = new ConcurrentHashMap<>();
+    private final Set<String> idleChecks = ConcurrentHashMap.newKeySet();
+
+    private WarmupService() {
+    }
+
+    public static WarmupService getInstance() {
+        return INSTANCE;
+    }
+
+    /** Warms whatever the last run used: its SUV host, the local ORS, or the most recent host. */
+    public void warmLastTarget() {
+        if (LastTestStorage.isLastTestStored()) {
+            if (LastTestStorage.isLocalJmx()) {
+                warmLocal();
+            }
+            else if (LastTestStorage.isOrs()) {
+                warmRemote(LastTestStorage.getHost());
+            }
+            return;
+        }
+        final List<String> recent = LastTestStorage.getRecentHosts();
+        if (!recent.isEmpty()) {
+            warmRemote(recent.get(0));
+        }
+    }
+
+    /** SSH session, JMX tunnel and tenant readiness for an SUV host, in the background. */
+    public void warmRemote(final String host) {
+        if (host == null || host.isBlank() || !claim(host)) {
+            return;
+        }
+        ApplicationManager.getApplication().executeOnPooledThread(() -> {
+            SshSessionManager.getInstance().ensureSession(host);
+            final OSCommands osCommands = new OSCommands(host);
+            final int jmxPort = osCommands.getRemoteOmsJmxPort();
+            try {
+                // a failure is remembered by the registry, so the run goes straight to its fallback
+                SshTunnelRegistry.getInstance().open(host, jmxPort);
+                SshTunnelRegistry.getInstance().release(host, jmxPort);
+            }
+            catch (Exception ignored) {
+                // the run falls back to the agent or jmxterm, as it would have anyway
+            }
+            final OrsReadinessService readiness = OrsReadinessService.getInstance();
+            readiness.prefetch(host, readiness.remoteProbe(osCommands, host));
+            scheduleIdleCheck(host, jmxPort);
+        });
+    }
+
+    /** Local ORS process lookup, pooled JMX connection and tenant readiness, in the background. */
+    public void warmLocal() {
+        if (!claim(LOCALHOST)) {
+            return;
+        }
+        ApplicationManager.getApplication().executeOnPooledThread(() -> {
+            try {
+                final LocalOrsDiscovery.OrsProcess ors = LocalOrsDiscovery.getInstance().find();
+                final JmxConnectionPool pool = JmxConnectionPool.getInstance();
+                pool.acquire(LOCALHOST, ors.jmxPort());
+                pool.release(LOCALHOST, ors.jmxPort());
+                final OrsReadinessService readiness = OrsReadinessService.getInstance();
+                readiness.prefetch(LOCALHOST + ":" + ors.httpPort(), readiness.localProbe(ors.httpPort()));
+            }
+            catch (Exception ignored) {
+                // ORS not running or JMX not up yet: the run reports it if it still is
+            }
+        });
+    }
+
+    private boolean claim(final String target) {
+        final long now = System.currentTimeMillis();
+        final Long last = warmedAt.get(target);
+        if (last != null && now - last < REWARM_MS) {
+            return false;
+        }
+        warmedAt.put(target, now);
+        return true;
+    }
+
+    private void scheduleIdleCheck(final String host, final int jmxPort) {
+        if (idleChecks.add(host)) {
+            AppExecutorUtil.getAppScheduledExecutorService().schedule(
+                () -> dropIfIdle(host, jmxPort), IDLE_CHECK_MINUTES, TimeUnit.MINUTES);
+        }
+    }
+
+    private void dropIfIdle(final String host, final int jmxPort) {
+        final boolean busy = RunScheduler.getInstance().freeHosts(List.of(host)).isEmpty();
+        if (busy || JmxConnectionPool.getInstance().isConnected(host, jmxPort)) {
+            AppExecutorUtil.getAppScheduledExecutorService().schedule(
+                () -> dropIfIdle(host, jmxPort), IDLE_CHECK_MINUTES, TimeUnit.MINUTES);
+            return;
+        }
+        idleChecks.remove(host);
+        warmedAt.remove(host);
+        SshTunnelRegistry.getInstance().close(host, jmxPort);
+        SshSessionManager.getInstance().close(host);
+    }
+}
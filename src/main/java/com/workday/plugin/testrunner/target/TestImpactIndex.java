@@ -0,0 +1,221 @@
+package com.workday.plugin.testrunner.target;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Disposer;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaCodeReferenceElement;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiReference;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.search.PsiSearchHelper;
+import com.intellij.psi.search.searches.ReferencesSearch;
+import com.intellij.psi.util.PsiTreeUtil;
+
+/**
+ * Finds the OMS test classes that use a set of changed source files, directly or through other project classes.
+ * <p>
+ * The reference graph is kept per file: for a source file, the project files that reference a class declared in
+ * it (found with {@link ReferencesSearch}, so only the word index is scanned), and for every file the OMS test
+ * classes it declares. Both are filled lazily while walking from the changed files to the tests and kept between
+ * queries. When a Java file is saved, created or deleted, only that file's edges are redone before the next query:
+ * it is taken out of every cached user set and put back into the sets of the classes it references now.
+ * <p>
+ * Queries must run inside a read action in smart mode.
+ *
+ * @author alexander.aizikivsky
+ * @since Oct-2026
+ */
+public final class TestImpactIndex implements Disposable {
+
+    private static final Map<Project, TestImpactIndex> INSTANCES = new ConcurrentHashMap<>();
+
+    private final Project project;
+    /** source file -> project files referencing a class declared in it */
+    private final Map<VirtualFile, Set<VirtualFile>> users = new ConcurrentHashMap<>();
+    /** source file -> OMS test classes declared in it, empty if none */
+    private final Map<VirtualFile, List<String>> omsTests = new ConcurrentHashMap<>();
+    private final Set<VirtualFile> dirty = ConcurrentHashMap.newKeySet();
+
+    private TestImpactIndex(final Project project) {
+        this.project = project;
+    }
+
+    /** The index of the project; created on first use and dropped with the project. */
+    public static TestImpactIndex getInstance(final Project project) {
+        return INSTANCES.computeIfAbsent(project, p -> {
+            final TestImpactIndex index = new TestImpactIndex(p);
+            Disposer.register(p, index);
+            p.getMessageBus().connect(index).subscribe(VirtualFileManager.VFS_CHANGES, new BulkFileListener() {
+                @Override
+                public void after(@NotNull List<? extends VFileEvent> events) {
+                    for (VFileEvent event : events) {
+                        if (event.getPath().endsWith(".java") && event.getFile() != null) {
+                            index.dirty.add(event.getFile());
+                        }
+                    }
+                }
+            });
+            return index;
+        });
+    }
+
+    /** Qualified names of the OMS test classes that use any of the files, sorted; the files themselves included. */
+    public List<String> findAffectedTests(final Collection<VirtualFile> changed) {
+        applyChanges();
+        final GlobalSearchScope scope = GlobalSearchScope.projectScope(project);
+        final Set<String> tests = new TreeSet<>();
+        final Set<VirtualFile> visited = new HashSet<>();
+        final Deque<VirtualFile> queue = new ArrayDeque<>();
+        for (VirtualFile vf : changed) {
+            if (vf.isValid() && scope.contains(vf) && visited.add(vf)) {
+                queue.add(vf);
+            }
+        }
+        while (!queue.isEmpty()) {
+            final VirtualFile vf = queue.poll();
+            final PsiJavaFile file = javaFile(vf);
+            if (file == null) {
+                continue;
+            }
+            tests.addAll(omsTests.computeIfAbsent(vf, f -> declaredOmsTests(file)));
+            for (VirtualFile user : users(vf, file, scope)) {
+                if (visited.add(user)) {
+                    queue.add(user);
+                }
+            }
+        }
+        return new ArrayList<>(tests);
+    }
+
+    /**
+     * Project Java files that mention the simple name of a deleted class, from the word index. They are the
+     * files that used the class, so they count as changed with it.
+     */
+    public Set<VirtualFile> filesMentioning(final String simpleName) {
+        final Set<VirtualFile> result = new HashSet<>();
+        PsiSearchHelper.getInstance(project).processAllFilesWithWord(simpleName,
+            GlobalSearchScope.projectScope(project), file -> {
+                if (file instanceof PsiJavaFile && file.getVirtualFile() != null) {
+                    result.add(file.getVirtualFile());
+                }
+                return true;
+            }, true);
+        return result;
+    }
+
+    /** Qualified names of the top-level classes declared in the files. */
+    public List<String> declaredClasses(final Collection<VirtualFile> files) {
+        final List<String> result = new ArrayList<>();
+        for (VirtualFile vf : files) {
+            final PsiJavaFile file = vf.isValid() ? javaFile(vf) : null;
+            if (file == null) {
+                continue;
+            }
+            for (PsiClass clazz : file.getClasses()) {
+                if (clazz.getQualifiedName() != null) {
+                    result.add(clazz.getQualifiedName());
+                }
+            }
+        }
+        return result;
+    }
+
+    /** Project source files of the classes the file references, without the file itself. Read action. */
+    public static Set<VirtualFile> referencedFiles(final PsiFile file, final GlobalSearchScope scope) {
+        final Set<VirtualFile> result = new HashSet<>();
+        for (PsiJavaCodeReferenceElement ref : PsiTreeUtil.findChildrenOfType(file, PsiJavaCodeReferenceElement.class)) {
+            final PsiElement target = ref.resolve();
+            final PsiFile targetFile = target instanceof PsiClass ? target.getContainingFile() : null;
+            final VirtualFile vf = targetFile == null ? null : targetFile.getVirtualFile();
+            if (vf != null && !vf.equals(file.getVirtualFile()) && scope.contains(vf)) {
+                result.add(vf);
+            }
+        }
+        return result;
+    }
+
+    private Set<VirtualFile> users(final VirtualFile vf, final PsiJavaFile file, final GlobalSearchScope scope) {
+        final Set<VirtualFile> cached = users.get(vf);
+        if (cached != null) {
+            return cached;
+        }
+        final Set<VirtualFile> found = ConcurrentHashMap.newKeySet();
+        for (PsiClass declared : file.getClasses()) {
+            for (PsiReference ref : ReferencesSearch.search(declared, scope).findAll()) {
+                final PsiFile userFile = ref.getElement().getContainingFile();
+                final VirtualFile user = userFile == null ? null : userFile.getVirtualFile();
+                if (user != null && !user.equals(vf)) {
+                    found.add(user);
+                }
+            }
+        }
+        users.put(vf, found);
+        return found;
+    }
+
+    /** Redoes the edges of the files changed since the last query. */
+    private void applyChanges() {
+        if (dirty.isEmpty()) {
+            return;
+        }
+        final GlobalSearchScope scope = GlobalSearchScope.projectScope(project);
+        final List<VirtualFile> changed = new ArrayList<>(dirty);
+        dirty.removeAll(changed);
+        for (VirtualFile vf : changed) {
+            // its declared classes may have changed too, so its own users are searched again when needed
+            users.remove(vf);
+            omsTests.remove(vf);
+            users.values().forEach(set -> set.remove(vf));
+            final PsiJavaFile file = vf.isValid() ? javaFile(vf) : null;
+            if (file == null) {
+                continue;
+            }
+            for (VirtualFile target : referencedFiles(file, scope)) {
+                final Set<VirtualFile> set = users.get(target);
+                if (set != null) {
+                    set.add(vf);
+                }
+            }
+        }
+    }
+
+    private PsiJavaFile javaFile(final VirtualFile vf) {
+        return PsiManager.getInstance(project).findFile(vf) instanceof PsiJavaFile f ? f : null;
+    }
+
+    private static List<String> declaredOmsTests(final PsiJavaFile file) {
+        final List<String> result = new ArrayList<>();
+        for (PsiClass clazz : file.getClasses()) {
+            if (clazz.getQualifiedName() != null && TestTargetExtractor.isOmsTestClass(clazz)) {
+                result.add(clazz.getQualifiedName());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void dispose() {
+        INSTANCES.remove(project, this);
+    }
+}
@@ -1,6 +1,11 @@
 package com.workday.plugin.testrunner.target;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
 import com.intellij.psi.*;
+import com.intellij.psi.search.GlobalSearchScope;
 
 /**
  * Utility class to extract test target information from the current context in IntelliJ.
@@ -24,6 +29,39 @@ public class TestTargetExtractor {
         return false;
     }
 
+    /** True if the class is an OMS test tagged with the given category, e.g. OMSBI; "empty" matches any category. */
+    public static boolean hasCategory(PsiClass clazz, String category) {
+        if ("empty".equals(category)) return isOmsTestClass(clazz);
+        Pattern tag = Pattern.compile("OmsTestCategories\\." + Pattern.quote(category) + "\\b");
+        for (PsiAnnotation annotation : clazz.getAnnotations()) {
+            if ("org.junit.jupiter.api.Tag".equals(annotation.getQualifiedName())) {
+                for (PsiNameValuePair attr : annotation.getParameterList().getAttributes()) {
+                    if (tag.matcher(attr.getText()).find()) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Collects the qualified names of OMS test classes of the category in the package and its subpackages.
+     * Must be called inside a read action.
+     */
+    public static List<String> findOmsTestClasses(PsiPackage pkg, GlobalSearchScope scope, String category) {
+        List<String> result = new ArrayList<>();
+        for (PsiClass clazz : pkg.getClasses(scope)) {
+            if (clazz.getQualifiedName() != null && hasCategory(clazz, category)) {
+                result.add(clazz.getQualifiedName());
+            }
+        }
+        for (PsiPackage sub : pkg.getSubPackages(scope)) {
+            result.addAll(findOmsTestClasses(sub, scope, category));
+        }
+        return result;
+    }
+
     public static boolean isTestLikeMethod(PsiMethod method) {
         if (method == null) return false;
 
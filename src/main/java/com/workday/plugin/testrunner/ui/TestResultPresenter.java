@@ -1,7 +1,5 @@
 package com.workday.plugin.testrunner.ui;
 
-import static com.workday.plugin.testrunner.common.Locations.*;
-
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -21,27 +19,6 @@ import com.intellij.openapi.application.ApplicationManager;
  */
 public class TestResultPresenter {
 
-    public void displayParsedResults(UiContentDescriptor.UiProcessHandler processHandler) {
-        File logFile = new File(getBasePath(), TEST_JUNIT_JUPITER_XML);
-        if (!logFile.exists()) {
-            processHandler.finish(1);
-            return;
-        }
-
-        TestSuiteResult suite = new XmlResultParser().parseTestSuite(logFile);
-        if (suite == null) {
-            processHandler.log("Warning: could not parse test results from " + logFile.getAbsolutePath());
-            processHandler.finish(1);
-            return;
-        }
-
-        ApplicationManager.getApplication().invokeLater(() -> {
-            displayTestResults(suite.results(), processHandler);
-            int exitCode = (suite.failures() > 0 || suite.errors() > 0) ? 1 : 0;
-            processHandler.finish(exitCode);
-        });
-    }
-
     /**
      * Parses all TEST-*.xml files from a Gradle test results directory and renders
      * individual test methods in the test tree. Called by RemoteJRunStrategy after
@@ -58,21 +35,32 @@ public class TestResultPresenter {
         }
 
         XmlResultParser parser = new XmlResultParser();
-        List<TestMethodResult> allResults = new ArrayList<>();
-        boolean anyFailure = false;
-
+        List<TestSuiteResult> suites = new ArrayList<>();
         for (File xmlFile : xmlFiles) {
             TestSuiteResult suite = parser.parseTestSuite(xmlFile);
             if (suite != null) {
-                allResults.addAll(suite.results());
-                if (suite.failures() > 0 || suite.errors() > 0) {
-                    anyFailure = true;
-                }
+                suites.add(suite);
+            }
+        }
+        displaySuites(suites, processHandler, exitCode);
+    }
+
+    /**
+     * Renders already parsed suites (e.g. streamed from a remote host) as one tree.
+     * The exit code becomes 1 if any suite has failures or errors.
+     */
+    public void displaySuites(List<TestSuiteResult> suites, UiContentDescriptor.UiProcessHandler processHandler, int exitCode) {
+        List<TestMethodResult> allResults = new ArrayList<>();
+        boolean anyFailure = false;
+        for (TestSuiteResult suite : suites) {
+            allResults.addAll(suite.results());
+            if (suite.failures() > 0 || suite.errors() > 0) {
+                anyFailure = true;
             }
         }
 
         if (allResults.isEmpty()) {
-            processHandler.log("Warning: no test results parsed from " + resultDir);
+            processHandler.log("Warning: no test results parsed");
             processHandler.finish(exitCode);
             return;
         }
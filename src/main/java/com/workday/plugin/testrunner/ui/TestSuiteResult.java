@@ -2,7 +2,20 @@ package com.workday.plugin.testrunner.ui;
 
 import java.util.List;
 
+import com.workday.plugin.testrunner.common.TestHistoryStore;
+
 public record TestSuiteResult(String name, int tests, int skipped, int failures, int errors, String timeMillisStr,
                        String hostname, String timestamp, String status, List<TestMethodResult> results) {
 
+    /** The test methods of the suite for the {@link TestHistoryStore}; errors count as failures. */
+    public List<TestHistoryStore.Outcome> historyOutcomes() {
+        return results.stream()
+            .map(r -> new TestHistoryStore.Outcome(r.className(), TestResultPresenter.methodNameOf(r.name()),
+                Long.parseLong(r.timeInMillisStr()), switch (r.status()) {
+                    case PASSED -> TestHistoryStore.Status.PASSED;
+                    case SKIPPED -> TestHistoryStore.Status.SKIPPED;
+                    default -> TestHistoryStore.Status.FAILED;
+                }))
+            .toList();
+    }
 }
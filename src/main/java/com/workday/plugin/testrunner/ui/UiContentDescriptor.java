@@ -1,6 +1,7 @@
 package com.workday.plugin.testrunner.ui;
 
 import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -8,6 +9,7 @@ import javax.swing.*;
 import javax.swing.tree.DefaultMutableTreeNode;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import com.intellij.execution.Executor;
 import com.intellij.execution.Location;
@@ -17,7 +19,9 @@ import com.intellij.execution.configurations.RunConfiguration;
 import com.intellij.execution.configurations.RunConfigurationBase;
 import com.intellij.execution.configurations.RunProfileState;
 import com.intellij.execution.executors.DefaultRunExecutor;
+import com.intellij.execution.process.ProcessEvent;
 import com.intellij.execution.process.ProcessHandler;
+import com.intellij.execution.process.ProcessListener;
 import com.intellij.execution.process.ProcessOutputType;
 import com.intellij.execution.runners.ExecutionEnvironment;
 import com.intellij.execution.testframework.AbstractTestProxy;
@@ -34,6 +38,7 @@ import com.intellij.openapi.actionSystem.AnAction;
 import com.intellij.openapi.actionSystem.AnActionEvent;
 import com.intellij.openapi.actionSystem.DefaultActionGroup;
 import com.intellij.openapi.actionSystem.impl.ActionToolbarImpl;
+import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.options.SettingsEditor;
 import com.intellij.openapi.project.Project;
 import com.intellij.pom.Navigatable;
@@ -43,8 +48,13 @@ import com.intellij.psi.PsiElement;
 import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.util.ui.UIUtil;
 
+import com.workday.plugin.testrunner.actions.MoveQueuedRunAction;
+import com.workday.plugin.testrunner.actions.ReRunInParallelAction;
 import com.workday.plugin.testrunner.actions.ReRunLastTestAction;
+import com.workday.plugin.testrunner.actions.RerunFailedAction;
 import com.workday.plugin.testrunner.actions.RunSelectedInRemoteJAction;
+import com.workday.plugin.testrunner.actions.WatchModeAction;
+import com.workday.plugin.testrunner.common.TestHistoryStore;
 
 /**
  * This class represents a UI content descriptor for JUnit test results in Run Tool Window.
@@ -198,9 +208,61 @@ public class UiContentDescriptor
         ConsoleView view = SMTestRunnerConnectionUtil.createConsole("ParsedResults", consoleProperties);
         view.attachToProcess(processHandler);
         injectActionsIntoToolbar(view.getComponent(), processHandler, project);
+        recordHistoryOnFinish(view.getComponent(), processHandler);
         return view;
     }
 
+    /** The root of the tab's test tree; null if the component has none. */
+    @Nullable
+    public static AbstractTestProxy getRootProxy(JComponent viewComp) {
+        JTree tree = viewComp == null ? null : UIUtil.findComponentOfType(viewComp, JTree.class);
+        if (tree == null) return null;
+        if (!(tree.getModel().getRoot() instanceof DefaultMutableTreeNode node)) return null;
+        if (!(node.getUserObject() instanceof SMTRunnerNodeDescriptor descriptor)) return null;
+        return descriptor.getElement();
+    }
+
+    /**
+     * When a run that has a history environment finishes (not stopped), records the test methods of its tree in
+     * the {@link TestHistoryStore}. The tree is read on the EDT, after the last tree events, and written on a pooled thread.
+     */
+    private static void recordHistoryOnFinish(JComponent viewComp, UiProcessHandler processHandler) {
+        processHandler.addProcessListener(new ProcessListener() {
+            @Override
+            public void processTerminated(@NotNull ProcessEvent event) {
+                final String environment = processHandler.getHistoryEnvironment();
+                final TestHistoryStore store = TestHistoryStore.current();
+                if (environment == null || store == null || processHandler.isStopped()) return;
+                ApplicationManager.getApplication().invokeLater(() -> {
+                    List<TestHistoryStore.Outcome> outcomes = collectOutcomes(getRootProxy(viewComp));
+                    if (!outcomes.isEmpty()) {
+                        ApplicationManager.getApplication().executeOnPooledThread(() -> store.record(environment, outcomes));
+                    }
+                });
+            }
+        });
+    }
+
+    /** The finished test methods under the root ("java:Class#method" leaves; variants as their method). */
+    private static List<TestHistoryStore.Outcome> collectOutcomes(AbstractTestProxy root) {
+        List<TestHistoryStore.Outcome> outcomes = new ArrayList<>();
+        if (root == null) return outcomes;
+        for (AbstractTestProxy test : root.getAllTests()) {
+            if (!test.isLeaf() || test.getDuration() == null && !test.isIgnored()) continue;
+            AbstractTestProxy node = RunSelectedInRemoteJAction.isVariantLeaf(test) ? test.getParent() : test;
+            String url = node.getLocationUrl();
+            if (url == null || !url.startsWith("java:")) continue;
+            String[] parts = url.substring("java:".length()).split("#", 2);
+            if (parts.length < 2 || parts[0].isBlank() || parts[1].isBlank()) continue;
+            TestHistoryStore.Status status = test.isDefect() ? TestHistoryStore.Status.FAILED
+                : test.isIgnored() ? TestHistoryStore.Status.SKIPPED
+                : TestHistoryStore.Status.PASSED;
+            long duration = test.getDuration() == null ? 0 : test.getDuration();
+            outcomes.add(new TestHistoryStore.Outcome(parts[0], parts[1], duration, status));
+        }
+        return outcomes;
+    }
+
     private static void injectActionsIntoToolbar(JComponent viewComp, UiProcessHandler processHandler, Project project) {
         ActionToolbarImpl toolbar = UIUtil.findComponentOfType(viewComp, ActionToolbarImpl.class);
         if (toolbar == null || !(toolbar.getActionGroup() instanceof DefaultActionGroup dag)) {
@@ -223,8 +285,12 @@ public class UiContentDescriptor
                 return ActionUpdateThread.EDT;
             }
         });
+        dag.add(new MoveQueuedRunAction(processHandler));
         dag.add(new ReRunLastTestAction());
+        dag.add(new ReRunInParallelAction());
+        dag.add(new RerunFailedAction(viewComp, project));
         dag.add(new RunSelectedInRemoteJAction(viewComp, project));
+        dag.add(new WatchModeAction());
     }
 
     public static UiContentDescriptor createUiDescriptor(final Project project, final String runTabName) {
@@ -336,22 +402,71 @@ public class UiContentDescriptor
         extends ProcessHandler {
 
         private volatile Runnable cancelHandler;
-
+        private volatile boolean aborted;
+        private volatile boolean stopped;
+        private volatile String historyEnvironment;
+
+        /**
+         * Sets what Stop (or {@link #abort}) calls to cancel the running test; runs it at once if the run was
+         * already stopped or aborted, e.g. during the pre-run checks. The handler may block until OMS has
+         * let go of the test; it never runs on the EDT.
+         */
         public void setCancelHandler(final Runnable cancelHandler) {
             this.cancelHandler = cancelHandler;
+            if (cancelHandler != null && (aborted || stopped)) {
+                cancelHandler.run();
+            }
+        }
+
+        /** Fails the run from outside its thread (e.g. a pre-run check that finished late): cancels and finishes with 1. */
+        public void abort(final String reason) {
+            aborted = true;
+            error(reason);
+            final Runnable h = this.cancelHandler;
+            if (h != null) {
+                h.run();
+            }
+            notifyProcessTerminated(1);
         }
 
         public void finish(final int exitCode) {
             notifyProcessTerminated(exitCode);
         }
 
+        /** Where the run's results are recorded in the {@link TestHistoryStore}; without one the tab records nothing. */
+        public void setHistoryEnvironment(final String historyEnvironment) {
+            this.historyEnvironment = historyEnvironment;
+        }
+
+        public String getHistoryEnvironment() {
+            return historyEnvironment;
+        }
+
+        /** True if the run was stopped (Stop button or {@link #destroyProcess()}) rather than finished. */
+        public boolean isStopped() {
+            return stopped;
+        }
+
+        /**
+         * Cancels on a pooled thread and terminates once the cancel has returned, so the host is not
+         * released to the next queued run while OMS still holds the test.
+         */
         @Override
         protected void destroyProcessImpl() {
+            stopped = true;
             final Runnable h = this.cancelHandler;
-            if (h != null) {
-                h.run();
+            if (h == null) {
+                notifyProcessTerminated(0);
+                return;
             }
-            notifyProcessTerminated(0);
+            ApplicationManager.getApplication().executeOnPooledThread(() -> {
+                try {
+                    h.run();
+                }
+                finally {
+                    notifyProcessTerminated(0);
+                }
+            });
         }
 
         @Override
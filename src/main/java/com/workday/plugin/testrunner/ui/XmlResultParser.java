@@ -1,75 +1,167 @@
 package com.workday.plugin.testrunner.ui;
 
+import java.io.BufferedInputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 
-import javax.xml.parsers.DocumentBuilderFactory;
-
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 /**
- * Parses an XML result file and extracts test results.
+ * Parses JUnit XML results (from a file or a stream) and extracts test results.
  *
  * @author alexander.aizikivsky
  * @since Jun-2025
  */
 public class XmlResultParser {
 
+    private static final XMLInputFactory XML_INPUT = newInputFactory();
+
     public TestSuiteResult parseTestSuite(File file) {
-        try {
-            Element suiteElement = (Element) DocumentBuilderFactory.newInstance()
-                .newDocumentBuilder()
-                .parse(file)
-                .getElementsByTagName("testsuite")
-                .item(0);
-
-            if (suiteElement == null) {
-                return null;
-            }
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            return parseTestSuite(in);
+        }
+        catch (Exception e) {
+            return null;
+        }
+    }
 
-            NodeList testCases = suiteElement.getElementsByTagName("testcase");
-            List<TestMethodResult> results = new ArrayList<>();
-            for (int i = 0; i < testCases.getLength(); i++) {
-                Element testCaseElement = (Element) testCases.item(i);
-                results.add(parseTestCase(testCaseElement));
+    /**
+     * Streaming (StAX) parse of one JUnit XML document, e.g. straight from an SSH stream while it
+     * is still transferring. Only the test case results are kept in memory, never the document.
+     * Does not close the stream.
+     */
+    public TestSuiteResult parseTestSuite(InputStream in) {
+        XMLStreamReader xml = null;
+        try {
+            xml = XML_INPUT.createXMLStreamReader(in);
+            while (xml.hasNext()) {
+                if (xml.next() == XMLStreamConstants.START_ELEMENT && "testsuite".equals(xml.getLocalName())) {
+                    return parseSuite(xml);
+                }
             }
-
-            String timeStr = suiteElement.getAttribute("time");
-            int millis = (int) (1000 * parseTime(timeStr));
-
-            return new TestSuiteResult(
-                suiteElement.getAttribute("name"),
-                parseInt(suiteElement.getAttribute("tests")),
-                parseInt(suiteElement.getAttribute("skipped")),
-                parseInt(suiteElement.getAttribute("failures")),
-                parseInt(suiteElement.getAttribute("errors")),
-                Integer.toString(millis),
-                suiteElement.getAttribute("hostname"),
-                suiteElement.getAttribute("timestamp"),
-                "NORMAL",
-                results
-            );
+            return null;
         }
         catch (Exception e) {
             return null;
         }
+        finally {
+            if (xml != null) {
+                try {
+                    xml.close();
+                }
+                catch (XMLStreamException ignored) {
+                    // underlying stream is left open either way
+                }
+            }
+        }
     }
 
-    private TestMethodResult parseTestCase(Element testCaseElement) {
-        String name = testCaseElement.getAttribute("name");
-        String className = testCaseElement.getAttribute("classname");
-        String timeStr = testCaseElement.getAttribute("time");
+    private TestSuiteResult parseSuite(XMLStreamReader xml) throws XMLStreamException {
+        String name = attr(xml, "name");
+        String tests = attr(xml, "tests");
+        String skipped = attr(xml, "skipped");
+        String failures = attr(xml, "failures");
+        String errors = attr(xml, "errors");
+        String timeStr = attr(xml, "time");
+        String hostname = attr(xml, "hostname");
+        String timestamp = attr(xml, "timestamp");
+
+        List<TestMethodResult> results = new ArrayList<>();
+        int depth = 1;
+        while (depth > 0 && xml.hasNext()) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                if ("testcase".equals(xml.getLocalName())) {
+                    results.add(parseTestCase(xml));
+                } else {
+                    depth++;
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+
         int millis = (int) (1000 * parseTime(timeStr));
+        return new TestSuiteResult(
+            name,
+            parseInt(tests),
+            parseInt(skipped),
+            parseInt(failures),
+            parseInt(errors),
+            Integer.toString(millis),
+            hostname,
+            timestamp,
+            "NORMAL",
+            results
+        );
+    }
 
-        String systemOut = getElementTextContent(testCaseElement, "system-out");
-        String systemErr = getElementTextContent(testCaseElement, "system-err");
-        String failureMessage = getElementMessageAttribute(testCaseElement, "failure");
-        String failureDetails = getElementTextContent(testCaseElement, "failure");
-        String errorMessage = getElementMessageAttribute(testCaseElement, "error");
-        String errorDetails = getElementTextContent(testCaseElement, "error");
-        String skippedMessage = getElementTextContent(testCaseElement, "skipped");
+    /** Reads one testcase element; returns with the reader positioned on its end tag. */
+    private TestMethodResult parseTestCase(XMLStreamReader xml) throws XMLStreamException {
+        String name = attr(xml, "name");
+        String className = attr(xml, "classname");
+        String timeStr = attr(xml, "time");
+        int millis = (int) (1000 * parseTime(timeStr));
+
+        String systemOut = null;
+        String systemErr = null;
+        String failureMessage = null;
+        String failureDetails = null;
+        String errorMessage = null;
+        String errorDetails = null;
+        String skippedMessage = null;
+
+        int depth = 1;
+        while (depth > 0 && xml.hasNext()) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+                continue;
+            }
+            if (event != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+            // only the first occurrence of each child counts, like the former DOM lookup
+            switch (xml.getLocalName()) {
+                case "failure" -> {
+                    boolean first = failureMessage == null;
+                    String message = attr(xml, "message");
+                    String text = textOf(xml);
+                    if (first) {
+                        failureMessage = message;
+                        failureDetails = text;
+                    }
+                }
+                case "error" -> {
+                    boolean first = errorMessage == null;
+                    String message = attr(xml, "message");
+                    String text = textOf(xml);
+                    if (first) {
+                        errorMessage = message;
+                        errorDetails = text;
+                    }
+                }
+                case "skipped" -> {
+                    String text = textOf(xml);
+                    skippedMessage = skippedMessage != null ? skippedMessage : text;
+                }
+                case "system-out" -> {
+                    String text = textOf(xml);
+                    systemOut = systemOut != null ? systemOut : text;
+                }
+                case "system-err" -> {
+                    String text = textOf(xml);
+                    systemErr = systemErr != null ? systemErr : text;
+                }
+                default -> depth++;
+            }
+        }
 
         Status status = errorMessage != null ? Status.ERROR
             : failureMessage != null ? Status.FAILED
@@ -91,20 +183,35 @@ public class XmlResultParser {
         );
     }
 
-    private String getElementTextContent(Element parent, String tagName) {
-        NodeList nodeList = parent.getElementsByTagName(tagName);
-        if (nodeList.getLength() > 0) {
-            return nodeList.item(0).getTextContent();
+    /** Text content of the current element, including text inside nested elements. */
+    private String textOf(XMLStreamReader xml) throws XMLStreamException {
+        StringBuilder sb = new StringBuilder();
+        int depth = 1;
+        while (depth > 0 && xml.hasNext()) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            } else if (xml.hasText()) {
+                sb.append(xml.getText());
+            }
         }
-        return null;
+        return sb.toString();
     }
 
-    private String getElementMessageAttribute(Element parent, String tagName) {
-        NodeList nodeList = parent.getElementsByTagName(tagName);
-        if (nodeList.getLength() > 0 && nodeList.item(0) instanceof Element) {
-            return ((Element) nodeList.item(0)).getAttribute("message");
-        }
-        return null;
+    /** Attribute value, or "" when absent (same as the DOM getAttribute contract). */
+    private String attr(XMLStreamReader xml, String name) {
+        String value = xml.getAttributeValue(null, name);
+        return value != null ? value : "";
+    }
+
+    private static XMLInputFactory newInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
     }
 
     private double parseTime(String timeStr) {
@@ -0,0 +1,172 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.management.JMX;
+import javax.management.MBeanServerConnection;
+import javax.management.ObjectName;
+import javax.management.remote.JMXConnector;
+import javax.management.remote.JMXConnectorFactory;
+import javax.management.remote.JMXServiceURL;
+
+/**
+ * Resident OMS test agent. Uploaded to SUV hosts by the IDE plugin (RemoteAgentClient) and started
+ * with the single-file source launcher: {@code java OmsTestAgent.java <jmxPort>}.
+ * <p>
+ * Keeps one JMX connection to the ORS JVM open and serves line requests on stdin until the SSH
+ * channel closes (EOF):
+ * <pre>
+ *   EXECUTE id b64(method) b64(class) b64(package) b64(concurrent) b64(category) b64(toDir)
+ *                                                              ->  RESULT id b64(result) | ERROR id b64(message)
+ *   CANCEL                                                      ->  CANCELLED | ERROR - b64(message)
+ *   STATUS                                                      ->  STATUS idle | STATUS running id
+ * </pre>
+ * The first line written is {@code READY}. Dependencies: JDK only.
+ */
+public final class OmsTestAgent {
+
+    private static final String MBEAN = "com.workday.oms:name=JunitTestListener";
+
+    public interface JUnitTestingMXBean {
+        String executeTestSuite(String testMethod, String testClass, String testPackage,
+                                String testConcurrent, String testCategory, String toDir);
+
+        void cancelRunningTest();
+    }
+
+    private final JMXServiceURL url;
+    private final PrintStream out;
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(r -> {
+        final Thread t = new Thread(r, "oms-agent-execute");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private JMXConnector connector;
+    private MBeanServerConnection connection;
+    private JUnitTestingMXBean bean;
+    private volatile String runningId;
+
+    private OmsTestAgent(final int jmxPort, final PrintStream out) throws IOException {
+        this.url = new JMXServiceURL("service:jmx:rmi:///jndi/rmi://localhost:" + jmxPort + "/jmxrmi");
+        this.out = out;
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final PrintStream out = new PrintStream(System.out, true, StandardCharsets.UTF_8);
+        final OmsTestAgent agent = new OmsTestAgent(Integer.parseInt(args[0]), out);
+        agent.bean(); // fail fast if OMS is not reachable
+        out.println("READY");
+        final BufferedReader in = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        String line;
+        while ((line = in.readLine()) != null) {
+            agent.handle(line.trim().split(" "));
+        }
+        // channel closed: the IDE is gone, do not leave an OMS lock behind
+        if (agent.runningId != null) {
+            agent.cancel();
+        }
+        System.exit(0);
+    }
+
+    private void handle(final String[] request) {
+        switch (request[0]) {
+            case "EXECUTE" -> execute(request);
+            case "CANCEL" -> cancel();
+            case "STATUS" -> reply(runningId == null ? "STATUS idle" : "STATUS running " + runningId);
+            default -> reply("ERROR - " + encode("Unknown request: " + request[0]));
+        }
+    }
+
+    private void execute(final String[] r) {
+        if (r.length != 8) {
+            reply("ERROR - " + encode("EXECUTE expects 7 arguments"));
+            return;
+        }
+        final String id = r[1];
+        final String[] args = new String[6];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = new String(Base64.getDecoder().decode(r[i + 2]), StandardCharsets.UTF_8);
+        }
+        runningId = id;
+        worker.execute(() -> {
+            try {
+                final String result = callWithReconnect(args);
+                reply("RESULT " + id + " " + encode(result == null ? "" : result));
+            }
+            catch (Exception e) {
+                reply("ERROR " + id + " " + encode(String.valueOf(e)));
+            }
+            finally {
+                runningId = null;
+            }
+        });
+    }
+
+    private String callWithReconnect(final String[] a) throws IOException {
+        // Check the link before the call rather than retrying after it, so a test is never started twice
+        checkConnection();
+        return bean().executeTestSuite(a[0], a[1], a[2], a[3], a[4], a[5]);
+    }
+
+    private synchronized void checkConnection() {
+        try {
+            connection.isRegistered(new ObjectName(MBEAN));
+        }
+        catch (Exception e) {
+            // ORS was restarted since the last run (or never connected)
+            disconnect();
+        }
+    }
+
+    private void cancel() {
+        try {
+            bean().cancelRunningTest();
+            reply("CANCELLED");
+        }
+        catch (Exception e) {
+            reply("ERROR - " + encode(String.valueOf(e)));
+        }
+    }
+
+    private synchronized JUnitTestingMXBean bean() throws IOException {
+        if (bean == null) {
+            connector = JMXConnectorFactory.connect(url, null);
+            connection = connector.getMBeanServerConnection();
+            try {
+                bean = JMX.newMBeanProxy(connection, new ObjectName(MBEAN), JUnitTestingMXBean.class);
+            }
+            catch (Exception e) {
+                throw new IOException(e);
+            }
+        }
+        return bean;
+    }
+
+    private synchronized void disconnect() {
+        bean = null;
+        try {
+            if (connector != null) {
+                connector.close();
+            }
+        }
+        catch (IOException ignored) {
+            // reconnecting anyway
+        }
+        connector = null;
+        connection = null;
+    }
+
+    private synchronized void reply(final String line) {
+        out.println(line);
+    }
+
+    private static String encode(final String s) {
+        return Base64.getEncoder().encodeToString(s.getBytes(StandardCharsets.UTF_8));
+    }
+}